@@ -0,0 +1,84 @@
+package bench;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.LongSupplier;
+
+/**
+ * 벤치마크 공통 측정 도구입니다
+ * 워밍업 후 일정 시간 동안 연산을 반복해 초당 처리량(ops/s)과
+ * 연산당 할당 바이트(B/op, 현재 스레드의 누적 할당량 기준)를 측정합니다
+ * 포크 분리, 반복별 통계, 오차 범위가 없는 간이 측정이므로 수치는 JMH 수준의 결과가 아니며 같은 환경에서의 전후 비교에만 사용합니다
+ * 기준이 되는 수치는 jmh 모듈(gradle :jmh:jmh)로 측정합니다
+ */
+public final class Bench {
+
+    private static final long WARMUP_MILLIS = Long.getLong("bench.warmup", 1000);
+    private static final long MEASURE_MILLIS = Long.getLong("bench.measure", 2000);
+    private static final int BATCH = 1024;
+
+    private static final com.sun.management.ThreadMXBean threadBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    /** 결과를 버리지 않도록 모아두는 값 (JIT의 죽은 코드 제거 방지) */
+    private static volatile long sink;
+
+    private Bench() {
+    }
+
+    /**
+     * 연산을 측정하고 결과를 한 줄로 출력합니다
+     *
+     * @param name 출력할 벤치마크 이름
+     * @param op 측정할 연산, 반환값은 결과 누적에만 사용됩니다
+     */
+    public static void run(String name, LongSupplier op) {
+        loop(op, WARMUP_MILLIS);
+
+        long threadId = Thread.currentThread().getId();
+        long bytesBefore = threadBean.getThreadAllocatedBytes(threadId);
+        long startNanos = System.nanoTime();
+        long ops = loop(op, MEASURE_MILLIS);
+        long elapsedNanos = System.nanoTime() - startNanos;
+        long bytes = threadBean.getThreadAllocatedBytes(threadId) - bytesBefore;
+
+        System.out.printf("%-48s %,16.0f ops/s %,12.1f B/op%n",
+                name, ops * 1_000_000_000.0 / elapsedNanos, (double) bytes / ops);
+    }
+
+    /**
+     * 한 번의 연산에 걸린 시간을 측정해야 하는 경우에 사용합니다 (예: 대량 정렬)
+     *
+     * @param name 출력할 벤치마크 이름
+     * @param iterations 측정 반복 횟수
+     * @param op 측정할 연산
+     */
+    public static void runOnce(String name, int iterations, LongSupplier op) {
+        for (int i = 0; i < Math.max(1, iterations / 2); i++) {
+            sink += op.getAsLong();
+        }
+        long threadId = Thread.currentThread().getId();
+        long bytesBefore = threadBean.getThreadAllocatedBytes(threadId);
+        long startNanos = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            sink += op.getAsLong();
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+        long bytes = threadBean.getThreadAllocatedBytes(threadId) - bytesBefore;
+
+        System.out.printf("%-48s %,16.3f ms/op %,12.0f B/op%n",
+                name, elapsedNanos / 1_000_000.0 / iterations, (double) bytes / iterations);
+    }
+
+    private static long loop(LongSupplier op, long millis) {
+        long deadline = System.nanoTime() + millis * 1_000_000;
+        long ops = 0, acc = 0;
+        do {
+            for (int i = 0; i < BATCH; i++) {
+                acc += op.getAsLong();
+            }
+            ops += BATCH;
+        } while (System.nanoTime() < deadline);
+        sink += acc;
+        return ops;
+    }
+}
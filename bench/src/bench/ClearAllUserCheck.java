@@ -0,0 +1,97 @@
+package bench;
+
+import game.difficulty.DifficultyMode;
+import game.record.GameRecord;
+import user.User;
+import user.UserManager;
+
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 여러 세션이 로그인, 기록 추가, 기록 조회를 하는 동안 다른 스레드가 clearAllUser를 반복해도
+ * 사용자가 다른 사용자의 기록(회수되어 다시 쓰인 슬롯)을 읽지 않는지 확인합니다
+ * 사용자마다 이름에서 정한 시도 횟수로만 기록하므로, 조회한 기록의 시도 횟수가 다르면 다른 사용자의 슬롯을 읽은 것입니다
+ * 다른 결과가 나오면 0이 아닌 종료 코드로 끝납니다
+ *
+ * 인자: [실행 시간(ms)] [세션 스레드 수] (기본값 3000 8)
+ */
+public class ClearAllUserCheck {
+
+    private static final int NAMES_PER_THREAD = 64;
+
+    public static void main(String[] args) throws InterruptedException {
+        long millis = args.length > 0 ? Long.parseLong(args[0]) : 3000L;
+        int threadCount = args.length > 1 ? Integer.parseInt(args[1]) : 8;
+        UserManager userManager = UserManager.getInstance();
+        userManager.clearAllUser();
+
+        AtomicBoolean isRunning = new AtomicBoolean(true);
+        AtomicLong reads = new AtomicLong();
+        AtomicLong staleReads = new AtomicLong();
+        AtomicLong mismatches = new AtomicLong();
+        AtomicLong errors = new AtomicLong();
+        Thread[] sessions = new Thread[threadCount];
+        for (int t = 0; t < threadCount; t++) {
+            int threadIndex = t;
+            sessions[t] = new Thread(() -> {
+                SplittableRandom random = new SplittableRandom(threadIndex);
+                while (isRunning.get()) {
+                    String username = "user" + (threadIndex * NAMES_PER_THREAD + random.nextInt(NAMES_PER_THREAD));
+                    User user = userManager.findOrCreate(username);
+                    int tag = tagOf(username);
+                    user.addToGameRecordList(new GameRecord(DifficultyMode.EASY, tag, true, null));
+                    try {
+                        List<GameRecord> records = user.getGameRecordList();
+                        for (GameRecord gameRecord : records) {
+                            reads.incrementAndGet();
+                            if (gameRecord.getAttemptCnt() != tag) mismatches.incrementAndGet();
+                        }
+                        Optional<GameRecord> best = user.getBestGameRecord();
+                        if (best.isPresent() && best.get().getAttemptCnt() != tag) mismatches.incrementAndGet();
+                    } catch (ConcurrentModificationException e) {
+                        // 조회 중 clearAllUser로 기록이 삭제된 경우입니다
+                        staleReads.incrementAndGet();
+                    }
+                }
+            });
+            sessions[t].setUncaughtExceptionHandler((thread, e) -> {
+                e.printStackTrace();
+                errors.incrementAndGet();
+            });
+            sessions[t].start();
+        }
+
+        long clears = 0;
+        long deadline = System.nanoTime() + millis * 1_000_000;
+        while (System.nanoTime() < deadline) {
+            Thread.sleep(1);
+            userManager.clearAllUser();
+            clears++;
+        }
+        isRunning.set(false);
+        for (Thread session : sessions) {
+            session.join();
+        }
+        userManager.clearAllUser();
+
+        if (mismatches.get() != 0 || errors.get() != 0) {
+            System.out.printf("%,d records read from another user's slots, %d sessions failed (%,d clears)%n",
+                    mismatches.get(), errors.get(), clears);
+            System.exit(1);
+        }
+        System.out.printf("%,d clears, %,d records read, %,d reads after clear: no foreign records%n",
+                clears, reads.get(), staleReads.get());
+    }
+
+    /**
+     * 사용자 이름으로 정한 시도 횟수 (1~4096)
+     */
+    private static int tagOf(String username) {
+        return 1 + (username.hashCode() & 0xFFF);
+    }
+}
@@ -0,0 +1,119 @@
+package bench;
+
+import game.difficulty.DifficultyMode;
+import game.logic.BaseballGameLogic;
+import game.record.GameRecord;
+import game.state.ranking.RankingState;
+import user.User;
+import user.UserManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 게임 핵심 로직의 기준 성능을 측정합니다
+ * 최적화 전후를 비교할 수 있도록 초당 처리량과 연산당 할당 바이트를 함께 출력합니다
+ * 직접 만든 측정 도구(Bench)로 빠르게 확인하는 용도이며 수치는 JMH 수준의 결과가 아닙니다
+ * 같은 항목의 JMH 벤치마크는 jmh 모듈의 bench.jmh.GameCoreBenchmark입니다
+ *
+ * 실행: gradle :bench:build 후 java -cp build/classes/java/main:bench/build/classes/java/main bench.GameCoreBenchmark
+ */
+public class GameCoreBenchmark {
+
+    private static final int[] USER_COUNTS = {1_000, 100_000, 1_000_000};
+
+    public static void main(String[] args) {
+        logic();
+        difficultyMode();
+        userLookup();
+        ranking();
+    }
+
+    private static void logic() {
+        for (DifficultyMode mode : DifficultyMode.values()) {
+            BaseballGameLogic pooled = new BaseballGameLogic(mode.getLen());
+            Bench.run("generateRandomNumber(pool) " + mode, () -> {
+                pooled.generateRandomNumber();
+                return 1;
+            });
+
+            BaseballGameLogic seeded = new BaseballGameLogic(mode.getLen(), 42L);
+            Bench.run("generateRandomNumber(seeded) " + mode, () -> {
+                seeded.generateRandomNumber();
+                return 1;
+            });
+
+            String valid = "123456789".substring(0, mode.getLen());
+            String duplicated = "1".repeat(mode.getLen());
+            Bench.run("validateInput(valid) " + mode, () -> seeded.validateInput(valid).size());
+            Bench.run("validateInput(invalid, exception) " + mode, () -> {
+                try {
+                    return seeded.validateInput(duplicated).size();
+                } catch (RuntimeException e) {
+                    return 0;
+                }
+            });
+            Bench.run("parseGuess(invalid, error code) " + mode, () -> seeded.parseGuess(duplicated));
+            Bench.run("evaluate(validate + calculateResult) " + mode, () -> seeded.evaluate(valid));
+        }
+    }
+
+    private static void difficultyMode() {
+        Bench.run("DifficultyMode.findByLen", () -> DifficultyMode.findByLen(5).ordinal());
+        Bench.run("DifficultyMode.findByOption", () -> DifficultyMode.findByOption(3).ordinal());
+    }
+
+    private static void userLookup() {
+        UserManager userManager = UserManager.getInstance();
+        for (int userCount : USER_COUNTS) {
+            userManager.clearAllUser();
+            for (int i = 0; i < userCount; i++) {
+                userManager.addUser(new User("user" + i));
+            }
+            SplittableRandom random = new SplittableRandom(1);
+            String[] names = new String[1024];
+            for (int i = 0; i < names.length; i++) {
+                names[i] = "user" + random.nextInt(userCount);
+            }
+            int[] next = {0};
+            Bench.run("UserManager.findByUsername " + userCount + " users", () ->
+                    userManager.findByUsername(names[next[0]++ & 1023]).isPresent() ? 1 : 0);
+        }
+        userManager.clearAllUser();
+    }
+
+    private static void ranking() {
+        RankingState rankingState = RankingState.getInstance();
+        for (int userCount : new int[]{1_000, 100_000}) {
+            List<User> users = createUsersWithRecords(userCount, 5, new SplittableRandom(7));
+            Bench.runOnce("RankingState ranking " + userCount + " users", 10,
+                    () -> rankingState.getUserRankingList(users).size());
+        }
+    }
+
+    /**
+     * 무작위 게임 기록을 가진 사용자 목록을 생성합니다
+     */
+    static List<User> createUsersWithRecords(int userCount, int recordsPerUser, SplittableRandom random) {
+        DifficultyMode[] modes = DifficultyMode.values();
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<User> users = new ArrayList<>(userCount);
+        for (int i = 0; i < userCount; i++) {
+            User user = new User("user" + i);
+            for (int r = 0; r < recordsPerUser; r++) {
+                GameRecord gameRecord = new GameRecord(modes[random.nextInt(modes.length)]);
+                int attempts = 1 + random.nextInt(15);
+                for (int a = 0; a < attempts; a++) {
+                    gameRecord.increaseAttemptCnt();
+                }
+                gameRecord.setFinished(true);
+                gameRecord.setFinishedDate(base.plusSeconds(random.nextInt(30_000_000)));
+                user.addToGameRecordList(gameRecord);
+            }
+            users.add(user);
+        }
+        return users;
+    }
+}
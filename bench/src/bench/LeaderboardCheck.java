@@ -0,0 +1,180 @@
+package bench;
+
+import game.difficulty.DifficultyMode;
+import game.record.GameRecord;
+import game.state.ranking.Leaderboard;
+import game.state.ranking.LeaderboardManager;
+import game.state.ranking.RankingState;
+import game.state.ranking.RankingWindow;
+import game.state.ranking.UserRanking;
+import user.User;
+import user.UserManager;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 무작위 기록을 섞어 추가하면서 모든 난이도, 기간별 Leaderboard의 순위가
+ * 해당 기록만으로 계산한 RankingState의 전체 재계산 결과와 같은지 확인합니다
+ * 시계를 며칠씩 앞으로 옮겨 기간이 지난 기록이 빠지는 경우와, 페이지 조회, 사용자별 순위 조회도 확인합니다
+ * 점수, 시도 횟수, 완료 일자가 겹치도록 값의 범위를 좁혀 동점 처리까지 비교합니다
+ * 기간이 2024년 새해를 지나도록 하고 몇 년 전(2020년 이후)에 완료한 기록도 섞어, 정렬 키의 일자 기준보다 앞선 일자가 뭉개지지 않는지 확인합니다
+ * 시도 횟수가 수만 번이라 점수나 시도 횟수가 정렬 키의 범위를 벗어나는 기록도 섞어, 이런 항목끼리도 순서가 같은지 확인합니다
+ * 다른 결과가 나오면 0이 아닌 종료 코드로 끝납니다
+ *
+ * 인자: [반복 횟수] [시드] (기본값 200 1)
+ */
+public class LeaderboardCheck {
+
+    private static final ZoneId ZONE = ZoneOffset.UTC;
+    private static final LocalDateTime BASE = LocalDateTime.of(2023, 12, 28, 0, 0);
+    private static final int DAYS = 10;
+
+    public static void main(String[] args) {
+        int rounds = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 1L;
+        SplittableRandom random = new SplittableRandom(seed);
+        DifficultyMode[] modes = DifficultyMode.values();
+        UserManager userManager = UserManager.getInstance();
+        LeaderboardManager leaderboardManager = LeaderboardManager.getInstance();
+
+        for (int round = 0; round < rounds; round++) {
+            LocalDateTime now = BASE.plusDays(DAYS - 1);
+            leaderboardManager.setClock(Clock.fixed(now.toInstant(ZoneOffset.UTC), ZONE));
+            userManager.clearAllUser();
+            leaderboardManager.clear();
+            int userCount = 1 + random.nextInt(200);
+            int recordCount = random.nextInt(userCount * 5);
+            for (int i = 0; i < userCount; i++) {
+                userManager.addUser(new User("user" + i));
+            }
+            List<User> users = userManager.getUserList();
+
+            for (int r = 0; r < recordCount; r++) {
+                User user = users.get(random.nextInt(userCount));
+                if (random.nextInt(16) == 0) {
+                    // 점수 -32768 미만, 시도 횟수 65535 초과 구간을 지나도록 합니다
+                    GameRecord gameRecord = new GameRecord(modes[random.nextInt(modes.length)], 32_000 + random.nextInt(40_000),
+                            true, BASE.plusDays(random.nextInt(DAYS)).plusSeconds(random.nextInt(3)));
+                    leaderboardManager.recordAdded(user, gameRecord, user.addToGameRecordList(gameRecord));
+                    continue;
+                }
+                GameRecord gameRecord = new GameRecord(modes[random.nextInt(modes.length)]);
+                int attempts = 1 + random.nextInt(12);
+                for (int a = 0; a < attempts; a++) {
+                    gameRecord.increaseAttemptCnt();
+                }
+                if (random.nextInt(4) != 0) {
+                    gameRecord.setFinished(true);
+                    LocalDateTime day = random.nextInt(8) == 0
+                            ? BASE.minusYears(1 + random.nextInt(3)).minusDays(random.nextInt(DAYS))
+                            : BASE.plusDays(random.nextInt(DAYS));
+                    gameRecord.setFinishedDate(day.plusSeconds(random.nextInt(3)));
+                }
+                int recordIndex = user.addToGameRecordList(gameRecord);
+                leaderboardManager.recordAdded(user, gameRecord, recordIndex);
+            }
+
+            check(round, "added", users, now);
+
+            Leaderboard allTime = leaderboardManager.getBoard(RankingWindow.ALL_TIME);
+            List<UserRanking> expected = expectedRanking(users, null, RankingWindow.ALL_TIME, now);
+            int offset = random.nextInt(expected.size() + 2);
+            int limit = random.nextInt(12);
+            List<UserRanking> page = allTime.getPage(offset, limit);
+            if (!sameOrder(expected.subList(Math.min(offset, expected.size()), Math.min(offset + limit, expected.size())), page)) {
+                fail(round, "page (" + offset + ", " + limit + ") differs");
+            }
+            for (User user : users) {
+                int rank = allTime.rankOf(user);
+                int expectedRank = indexOf(expected, user.getUsername()) + 1;
+                if (rank != (expectedRank == 0 ? -1 : expectedRank)) {
+                    fail(round, "rank of " + user.getUsername() + " is " + rank + ", expected " + expectedRank);
+                }
+            }
+
+            // 저장소에서 불러온 뒤처럼 전체 재구성한 결과도 같아야 합니다
+            leaderboardManager.rebuild(users);
+            check(round, "rebuilt", users, now);
+
+            // 날짜가 바뀌면 기간이 지난 기록이 빠져야 합니다
+            now = now.plusDays(1 + random.nextInt(3));
+            leaderboardManager.setClock(Clock.fixed(now.toInstant(ZoneOffset.UTC), ZONE));
+            check(round, "expired", users, now);
+        }
+        userManager.clearAllUser();
+        leaderboardManager.setClock(Clock.systemDefaultZone());
+        leaderboardManager.clear();
+        System.out.printf("%d rounds: leaderboards match full ranking%n", rounds);
+    }
+
+    private static void check(int round, String stage, List<User> users, LocalDateTime now) {
+        LeaderboardManager leaderboardManager = LeaderboardManager.getInstance();
+        for (RankingWindow window : RankingWindow.values()) {
+            List<DifficultyMode> scopes = new ArrayList<>();
+            scopes.add(null);
+            scopes.addAll(List.of(DifficultyMode.values()));
+            for (DifficultyMode difficultyMode : scopes) {
+                Leaderboard board = difficultyMode == null
+                        ? leaderboardManager.getBoard(window)
+                        : leaderboardManager.getBoard(difficultyMode, window);
+                if (!sameOrder(expectedRanking(users, difficultyMode, window, now), board.getRankingList())) {
+                    fail(round, stage + " ranking differs (" + difficultyMode + ", " + window + ")");
+                }
+            }
+        }
+    }
+
+    /**
+     * 난이도와 기간에 맞는 기록만 가진 사용자 목록을 같은 순서로 만들어 RankingState로 계산합니다
+     */
+    private static List<UserRanking> expectedRanking(List<User> users, DifficultyMode difficultyMode,
+                                                     RankingWindow window, LocalDateTime now) {
+        long today = now.toLocalDate().toEpochDay();
+        List<User> filtered = new ArrayList<>(users.size());
+        for (User user : users) {
+            User copy = new User(user.getUsername());
+            for (GameRecord gameRecord : user.getGameRecordList()) {
+                if (difficultyMode != null && gameRecord.getDifficultyMode() != difficultyMode) continue;
+                if (window.getDays() > 0 && (!gameRecord.isFinished()
+                        || gameRecord.getFinishedDate().toLocalDate().toEpochDay() <= today - window.getDays())) continue;
+                copy.addToGameRecordList(gameRecord);
+            }
+            filtered.add(copy);
+        }
+        return RankingState.getInstance().getUserRankingList(filtered);
+    }
+
+    private static void fail(int round, String message) {
+        System.out.printf("round %d: %s%n", round, message);
+        System.exit(1);
+    }
+
+    private static int indexOf(List<UserRanking> rankingList, String username) {
+        for (int i = 0; i < rankingList.size(); i++) {
+            if (rankingList.get(i).getUsername().equals(username)) return i;
+        }
+        return -1;
+    }
+
+    private static boolean sameOrder(List<UserRanking> expected, List<UserRanking> actual) {
+        if (expected.size() != actual.size()) return false;
+        for (int i = 0; i < expected.size(); i++) {
+            UserRanking e = expected.get(i);
+            UserRanking a = actual.get(i);
+            if (!e.getUsername().equals(a.getUsername())
+                    || e.getScore() != a.getScore()
+                    || e.getAttemptCnt() != a.getAttemptCnt()
+                    || e.getDifficultyMode() != a.getDifficultyMode()
+                    || !e.getFinishedDate().equals(a.getFinishedDate())) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
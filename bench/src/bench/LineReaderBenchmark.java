@@ -0,0 +1,97 @@
+package bench;
+
+import util.LineReader;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.NoSuchElementException;
+import java.util.Scanner;
+import java.util.SplittableRandom;
+
+/**
+ * 스크립트 입력을 끝까지 읽는 시간을 Scanner.nextLine과 LineReader.nextLine으로 비교합니다
+ * 입력은 게임 중 추측처럼 서로 다른 숫자 5자리 줄이며, 일부 줄은 닉네임이나 메뉴 입력처럼 한글과 \r\n을 섞습니다
+ * 같은 입력을 파일에서 읽으며, 두 방식이 읽은 줄이 같은지도 확인합니다 (입력에 U+0085, U+2028, U+2029는 넣지 않습니다)
+ *
+ * 인자: [줄 수] (기본값 2000000)
+ */
+public class LineReaderBenchmark {
+
+    private static final int ITERATIONS = 10;
+
+    public static void main(String[] args) throws IOException {
+        int lineCount = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        Path file = Files.createTempFile("baseball-input-bench", ".txt");
+        file.toFile().deleteOnExit();
+        Files.write(file, createInput(lineCount, new SplittableRandom(11)));
+
+        long scannerHash = readWithScanner(file);
+        long lineReaderHash = readWithLineReader(file);
+        if (scannerHash != lineReaderHash) {
+            System.out.println("lines differ between Scanner and LineReader");
+            System.exit(1);
+        }
+
+        System.out.printf("%,d lines, %,d bytes%n", lineCount, Files.size(file));
+        Bench.runOnce("Scanner.nextLine (" + lineCount + " lines)", ITERATIONS, () -> readWithScanner(file));
+        Bench.runOnce("LineReader.nextLine (" + lineCount + " lines)", ITERATIONS, () -> readWithLineReader(file));
+    }
+
+    private static long readWithScanner(Path file) {
+        try (InputStream in = new FileInputStream(file.toFile())) {
+            Scanner sc = new Scanner(in, StandardCharsets.UTF_8);
+            long hash = 0;
+            while (true) {
+                try {
+                    hash = hash * 31 + sc.nextLine().hashCode();
+                } catch (NoSuchElementException e) {
+                    return hash;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static long readWithLineReader(Path file) {
+        try (InputStream in = new FileInputStream(file.toFile())) {
+            LineReader reader = new LineReader(in);
+            long hash = 0;
+            while (true) {
+                try {
+                    hash = hash * 31 + reader.nextLine().hashCode();
+                } catch (NoSuchElementException e) {
+                    return hash;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] createInput(int lineCount, SplittableRandom random) {
+        StringBuilder sb = new StringBuilder(lineCount * 6);
+        for (int i = 0; i < lineCount; i++) {
+            if (i % 100 == 0) {
+                sb.append("사용자").append(i).append("\r\n");
+                continue;
+            }
+            int used = 0;
+            for (int d = 0; d < 5; d++) {
+                int digit;
+                do {
+                    digit = 1 + random.nextInt(9);
+                } while ((used & (1 << digit)) != 0);
+                used |= 1 << digit;
+                sb.append((char) ('0' + digit));
+            }
+            sb.append('\n');
+        }
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,39 @@
+package bench;
+
+import user.UserManager;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * 사용자 수에 따른 로그인(UserManager.findOrCreate) 처리 시간을 측정합니다
+ * 해시 인덱스를 사용하므로 사용자 수가 늘어도 처리량이 일정해야 합니다
+ *
+ * 인자: 측정할 사용자 수 목록 (기본값 1000 100000 1000000 10000000, 천만 명은 -Xmx4g 이상 필요)
+ */
+public class LoginBenchmark {
+
+    public static void main(String[] args) {
+        int[] userCounts = args.length > 0
+                ? Arrays.stream(args).mapToInt(Integer::parseInt).toArray()
+                : new int[]{1_000, 100_000, 1_000_000, 10_000_000};
+
+        UserManager userManager = UserManager.getInstance();
+        for (int userCount : userCounts) {
+            userManager.clearAllUser();
+            for (int i = 0; i < userCount; i++) {
+                userManager.findOrCreate("user" + i);
+            }
+
+            SplittableRandom random = new SplittableRandom(1);
+            String[] names = new String[4096];
+            for (int i = 0; i < names.length; i++) {
+                names[i] = "user" + random.nextInt(userCount);
+            }
+            int[] next = {0};
+            Bench.run("login(findOrCreate) " + userCount + " users", () ->
+                    userManager.findOrCreate(names[next[0]++ & 4095]).getGameNumber());
+        }
+        userManager.clearAllUser();
+    }
+}
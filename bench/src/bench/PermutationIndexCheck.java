@@ -0,0 +1,67 @@
+package bench;
+
+import game.difficulty.DifficultyMode;
+import game.logic.PermutationIndex;
+
+import java.util.Arrays;
+
+/**
+ * 난이도별 숫자 길이(3, 4, 5)에서 PermutationIndex의 번호가 올바른지 확인합니다
+ * 1부터 9까지의 중복 없는 숫자 조합을 사전 순서로 모두 만들어 가며 다음을 비교합니다
+ * - 사전 순서로 n번째 조합의 번호가 n인지 (번호가 0부터 nPk - 1까지 빈틈없이, 사전 순서대로 매겨지는지)
+ * - 번호를 되돌린 숫자와 마스크가 원래 조합과 같은지
+ * - 만든 조합의 개수가 size(len)과 같은지
+ * 다른 결과가 나오면 0이 아닌 종료 코드로 끝납니다
+ */
+public class PermutationIndexCheck {
+
+    private static final int DIGIT_COUNT = 9;
+
+    public static void main(String[] args) {
+        for (DifficultyMode difficultyMode : DifficultyMode.values()) {
+            int len = difficultyMode.getLen();
+            int[] digits = new int[len];
+            int[] restored = new int[len];
+            int count = enumerate(len, 0, 0, digits, restored, 0);
+            if (count != PermutationIndex.size(len)) {
+                fail(len, "size " + PermutationIndex.size(len) + " but enumerated " + count);
+            }
+            System.out.printf("len %d: %,d ranks dense, lexicographic and round-trip%n", len, count);
+        }
+    }
+
+    /**
+     * 남은 자리를 사전 순서로 채우며 완성된 조합마다 번호를 확인합니다
+     *
+     * @return 지금까지 확인한 조합 수 (다음 조합이 받아야 할 번호)
+     */
+    private static int enumerate(int len, int position, int used, int[] digits, int[] restored, int expectedRank) {
+        if (position == len) {
+            check(len, digits, used, restored, expectedRank);
+            return expectedRank + 1;
+        }
+        for (int digit = 1; digit <= DIGIT_COUNT; digit++) {
+            int bit = 1 << (digit - 1);
+            if ((used & bit) != 0) continue;
+            digits[position] = digit;
+            expectedRank = enumerate(len, position + 1, used | bit, digits, restored, expectedRank);
+        }
+        return expectedRank;
+    }
+
+    private static void check(int len, int[] digits, int mask, int[] restored, int expectedRank) {
+        int rank = PermutationIndex.rank(digits, len);
+        if (rank != expectedRank) {
+            fail(len, Arrays.toString(digits) + " ranked " + rank + ", expected " + expectedRank);
+        }
+        int restoredMask = PermutationIndex.unrank(rank, len, restored);
+        if (!Arrays.equals(digits, restored) || restoredMask != mask) {
+            fail(len, "rank " + rank + " unranked to " + Arrays.toString(restored) + ", expected " + Arrays.toString(digits));
+        }
+    }
+
+    private static void fail(int len, String message) {
+        System.out.printf("len %d: %s%n", len, message);
+        System.exit(1);
+    }
+}
@@ -0,0 +1,48 @@
+package bench;
+
+import game.state.ranking.Leaderboard;
+import game.state.ranking.LeaderboardManager;
+import game.state.ranking.RankingWindow;
+import user.User;
+import user.UserManager;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 사용자 100만 명의 랭킹 보드에서 상위 목록, 페이지, 사용자 순위 조회 시간을 측정합니다
+ * 목표는 랭킹 화면 한 번(페이지 조회 + 내 순위 조회)을 밀리초 안에 처리하는 것입니다
+ *
+ * 인자: [사용자 수] (기본값 1000000)
+ */
+public class RankingQueryBenchmark {
+
+    private static final int PAGE_SIZE = 10;
+
+    public static void main(String[] args) {
+        int userCount = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+
+        UserManager userManager = UserManager.getInstance();
+        userManager.clearAllUser();
+        for (User user : GameCoreBenchmark.createUsersWithRecords(userCount, 1, new SplittableRandom(11))) {
+            userManager.addUser(user);
+        }
+        List<User> users = userManager.getUserList();
+        LeaderboardManager leaderboardManager = LeaderboardManager.getInstance();
+        Bench.runOnce("LeaderboardManager.rebuild (" + userCount + " users)", 3, () -> {
+            leaderboardManager.rebuild(users);
+            return leaderboardManager.getBoard(RankingWindow.ALL_TIME).size();
+        });
+        Leaderboard leaderboard = leaderboardManager.getBoard(RankingWindow.ALL_TIME);
+
+        SplittableRandom random = new SplittableRandom(13);
+        Bench.run("Leaderboard.getTop(10)", () -> leaderboard.getTop(PAGE_SIZE).size());
+        Bench.run("Leaderboard.getPage(random, 10)",
+                () -> leaderboard.getPage(random.nextInt(userCount), PAGE_SIZE).size());
+        Bench.run("Leaderboard.rankOf(random user)",
+                () -> leaderboard.rankOf(users.get(random.nextInt(userCount))));
+
+        userManager.clearAllUser();
+        leaderboardManager.clear();
+    }
+}
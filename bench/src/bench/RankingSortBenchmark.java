@@ -0,0 +1,80 @@
+package bench;
+
+import game.difficulty.DifficultyMode;
+import game.state.ranking.RankingKey;
+import game.state.ranking.UserRanking;
+import user.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * UserRanking 100만 개를 정렬하는 시간을 비교합니다
+ * 기존 RankingState의 Comparator 정렬과, 정렬 키 배열을 기수 정렬한 뒤 화면에 표시할 상위 행만 UserRanking으로 되돌리는 방식을 측정합니다
+ * 두 방식의 결과 순서가 같은지도 확인합니다
+ *
+ * 인자: [항목 수] (기본값 1000000)
+ */
+public class RankingSortBenchmark {
+
+    private static final int DISPLAYED_ROWS = 10;
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        List<UserRanking> rankings = createRankings(count, new SplittableRandom(17));
+        Comparator<UserRanking> comparator = Comparator
+                .comparingInt(UserRanking::getScore).reversed()
+                .thenComparingInt(UserRanking::getAttemptCnt)
+                .thenComparing(UserRanking::getFinishedDate);
+
+        List<UserRanking> expected = new ArrayList<>(rankings);
+        expected.sort(comparator);
+        int[] order = RankingKey.sortedOrder(sortKeys(rankings), count);
+        for (int i = 0; i < count; i++) {
+            if (rankings.get(order[i]) != expected.get(i)) {
+                System.out.printf("order differs at %d%n", i);
+                System.exit(1);
+            }
+        }
+
+        Bench.runOnce("Comparator sort (" + count + ")", 10, () -> {
+            List<UserRanking> sorted = new ArrayList<>(rankings);
+            sorted.sort(comparator);
+            return sorted.subList(0, Math.min(DISPLAYED_ROWS, count)).size();
+        });
+        Bench.runOnce("RankingKey radix sort (" + count + ")", 10, () -> {
+            int[] sortedOrder = RankingKey.sortedOrder(sortKeys(rankings), count);
+            List<UserRanking> rows = new ArrayList<>(DISPLAYED_ROWS);
+            for (int i = 0; i < Math.min(DISPLAYED_ROWS, count); i++) {
+                rows.add(rankings.get(sortedOrder[i]));
+            }
+            return rows.size();
+        });
+    }
+
+    private static long[] sortKeys(List<UserRanking> rankings) {
+        long[] keys = new long[rankings.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = rankings.get(i).getSortKey();
+        }
+        return keys;
+    }
+
+    private static List<UserRanking> createRankings(int count, SplittableRandom random) {
+        DifficultyMode[] modes = DifficultyMode.values();
+        // 완료 일자는 2022년부터 약 3년에 걸치도록 해 2024년 이전 일자의 순서도 확인합니다
+        LocalDateTime base = LocalDateTime.of(2022, 1, 1, 0, 0);
+        List<UserRanking> rankings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            DifficultyMode difficultyMode = modes[random.nextInt(modes.length)];
+            int attempts = 1 + random.nextInt(30);
+            int score = 100 + 2 * difficultyMode.ordinal() + 1 - attempts + (attempts <= 3 ? 10 : attempts <= 5 ? 5 : 0);
+            rankings.add(new UserRanking(new User("user" + i), score, difficultyMode, attempts,
+                    base.plusSeconds(random.nextInt(90_000_000))));
+        }
+        return rankings;
+    }
+}
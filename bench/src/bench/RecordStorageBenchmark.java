@@ -0,0 +1,60 @@
+package bench;
+
+import game.record.RecordArena;
+import user.User;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 게임 기록이 쌓일 때 기록당 저장 공간과 힙 증가량을 측정합니다
+ * 목표는 기록당 16바이트 미만이고, 기록 수가 늘어도 힙이 늘어나지 않는 것입니다
+ *
+ * 인자: [사용자 수] [사용자당 기록 수] (기본값 10000 1000)
+ */
+public class RecordStorageBenchmark {
+
+    public static void main(String[] args) {
+        int userCount = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int recordsPerUser = args.length > 1 ? Integer.parseInt(args[1]) : 1_000;
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        RecordArena recordArena = RecordArena.getInstance();
+
+        long heapBefore = usedHeap(memory);
+        long arenaBefore = recordArena.getUsedBytes();
+        long startNanos = System.nanoTime();
+        List<User> users = GameCoreBenchmark.createUsersWithRecords(userCount, recordsPerUser, new SplittableRandom(5));
+        long elapsedNanos = System.nanoTime() - startNanos;
+        long heapAfter = usedHeap(memory);
+        long arenaAfter = recordArena.getUsedBytes();
+
+        long records = 0;
+        for (User user : users) {
+            records += user.getGameRecordCount();
+        }
+        System.out.printf("append %,d records: %,.1f ms (%,.0f records/s)%n",
+                records, elapsedNanos / 1_000_000.0, records / (elapsedNanos / 1e9));
+        System.out.printf("arena: %,d bytes (%.1f B/record)%n",
+                arenaAfter - arenaBefore, (double) (arenaAfter - arenaBefore) / records);
+        System.out.printf("heap: %,d bytes (%.2f B/record, users included)%n",
+                heapAfter - heapBefore, (double) (heapAfter - heapBefore) / records);
+
+        startNanos = System.nanoTime();
+        long attempts = 0;
+        for (User user : users) {
+            for (var gameRecord : user.getGameRecordList()) {
+                attempts += gameRecord.getAttemptCnt();
+            }
+        }
+        elapsedNanos = System.nanoTime() - startNanos;
+        System.out.printf("scan %,d records: %,.1f ms (checksum %d)%n",
+                records, elapsedNanos / 1_000_000.0, attempts);
+    }
+
+    private static long usedHeap(MemoryMXBean memory) {
+        System.gc();
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
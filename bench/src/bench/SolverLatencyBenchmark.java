@@ -0,0 +1,112 @@
+package bench;
+
+import game.difficulty.DifficultyMode;
+import game.logic.FeedbackTable;
+import game.logic.MinimaxSolver;
+import game.logic.ResultCount;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * HARD 난이도에서 MinimaxSolver.bestGuess 한 번의 응답 시간을 측정해 목표 시간(기본 50ms)과 비교합니다
+ * 첫 입력(조합 번호 0)의 결과별로 남는 정답 후보 집합마다 bestGuess를 반복 호출해 중앙값과 최댓값을 구합니다
+ * 모든 조합이 후보인 첫 수는 계산 없이 바로 반환되므로, 첫 결과 뒤의 후보 집합이 한 게임에서 가장 오래 걸리는 결정입니다
+ * 병렬 처리 수(fork-join 풀 크기)별로 측정하며, 실행한 장비의 코어 수보다 큰 값은 실제로 병렬로 실행되지 않습니다
+ * 마지막 줄에 가장 느린 후보 집합의 중앙값이 목표를 만족하는지 출력합니다
+ *
+ * 인자: [목표 시간(ms)] [병렬 처리 수...] (기본값 50, 1과 사용 가능한 코어 수)
+ * 실행: gradle :bench:build 후 java -cp build/classes/java/main:bench/build/classes/java/main bench.SolverLatencyBenchmark
+ */
+public class SolverLatencyBenchmark {
+
+    private static final DifficultyMode MODE = DifficultyMode.HARD;
+    private static final int FIRST_GUESS = 0;
+    private static final int WARMUP = 3;
+    private static final int ITERATIONS = 9;
+
+    /** 결과를 버리지 않도록 모아두는 값 (JIT의 죽은 코드 제거 방지) */
+    private static volatile long sink;
+
+    public static void main(String[] args) {
+        double targetMillis = args.length > 0 ? Double.parseDouble(args[0]) : 50.0;
+        int cores = Runtime.getRuntime().availableProcessors();
+        int[] parallelisms = args.length > 1
+                ? Arrays.stream(args, 1, args.length).mapToInt(Integer::parseInt).toArray()
+                : cores > 1 ? new int[]{1, cores} : new int[]{1};
+
+        long loadStart = System.nanoTime();
+        FeedbackTable feedbackTable = FeedbackTable.of(MODE);
+        feedbackTable.get(FIRST_GUESS, FIRST_GUESS);
+        System.out.printf("FeedbackTable %s load (first use): %,.1f ms%n", MODE, (System.nanoTime() - loadStart) / 1_000_000.0);
+        System.out.printf("available cores: %d, target: %.0f ms per bestGuess%n", cores, targetMillis);
+
+        long[][] candidateSets = candidateSetsAfterFirstGuess(feedbackTable);
+        boolean isMet = true;
+        for (int parallelism : parallelisms) {
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                MinimaxSolver minimaxSolver = new MinimaxSolver(MODE, pool);
+                double slowestMedian = 0;
+                for (int result = 0; result < candidateSets.length; result++) {
+                    long[] candidates = candidateSets[result];
+                    int count = countOf(candidates);
+                    if (count <= 1) continue;
+                    double[] millis = measure(minimaxSolver, candidates);
+                    double median = millis[millis.length / 2];
+                    slowestMedian = Math.max(slowestMedian, median);
+                    System.out.printf("parallelism %2d  %dS%dB %,6d candidates  median %,9.2f ms  max %,9.2f ms%n",
+                            parallelism, ResultCount.strikeOf(result), ResultCount.ballOf(result), count,
+                            median, millis[millis.length - 1]);
+                }
+                boolean isWithinTarget = slowestMedian <= targetMillis;
+                isMet &= isWithinTarget;
+                System.out.printf("parallelism %2d  slowest median %,.2f ms: %s the %.0f ms target%n",
+                        parallelism, slowestMedian, isWithinTarget ? "meets" : "MISSES", targetMillis);
+            } finally {
+                pool.shutdown();
+            }
+        }
+        if (cores == 1) {
+            System.out.println("only one core is available: parallel numbers above 1 were not measured on real cores");
+        }
+        System.out.println(isMet ? "target met for every parallelism" : "target NOT met");
+    }
+
+    /**
+     * 첫 입력의 결과별로 남는 정답 후보 비트셋을 만듭니다 (인덱스 = 결과 값)
+     */
+    private static long[][] candidateSetsAfterFirstGuess(FeedbackTable feedbackTable) {
+        int size = feedbackTable.size();
+        long[][] candidateSets = new long[ResultCount.pack(MODE.getLen(), 0) + 1][(size + 63) >>> 6];
+        for (int secretRank = 0; secretRank < size; secretRank++) {
+            candidateSets[feedbackTable.get(FIRST_GUESS, secretRank)][secretRank >>> 6] |= 1L << secretRank;
+        }
+        return candidateSets;
+    }
+
+    /**
+     * bestGuess를 반복 호출한 시간(ms)을 오름차순으로 정렬해 반환합니다
+     */
+    private static double[] measure(MinimaxSolver minimaxSolver, long[] candidates) {
+        for (int i = 0; i < WARMUP; i++) {
+            sink += minimaxSolver.bestGuess(candidates);
+        }
+        double[] millis = new double[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            sink += minimaxSolver.bestGuess(candidates);
+            millis[i] = (System.nanoTime() - start) / 1_000_000.0;
+        }
+        Arrays.sort(millis);
+        return millis;
+    }
+
+    private static int countOf(long[] candidates) {
+        int count = 0;
+        for (long word : candidates) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+}
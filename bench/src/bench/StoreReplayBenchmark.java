@@ -0,0 +1,50 @@
+package bench;
+
+import store.GameStore;
+import user.User;
+import user.UserManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+/**
+ * GameStore의 시작 시 복원 시간을 측정합니다
+ * 목표는 게임 기록 100만 건을 1초 안에 복원하는 것입니다
+ *
+ * 인자: [사용자 수] [사용자당 기록 수] (기본값 10000 100)
+ */
+public class StoreReplayBenchmark {
+
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) throws IOException {
+        int userCount = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int recordsPerUser = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+
+        Path directory = Files.createTempDirectory("baseball-store-bench");
+        UserManager userManager = UserManager.getInstance();
+        userManager.clearAllUser();
+        for (User user : GameCoreBenchmark.createUsersWithRecords(userCount, recordsPerUser, new SplittableRandom(3))) {
+            userManager.addUser(user);
+        }
+        GameStore.open(directory, userManager).close();
+
+        for (int round = 0; round < ROUNDS; round++) {
+            userManager.clearAllUser();
+            long startNanos = System.nanoTime();
+            GameStore gameStore = GameStore.open(directory, userManager);
+            long elapsedNanos = System.nanoTime() - startNanos;
+
+            long records = 0;
+            for (User user : userManager.getUserList()) {
+                records += user.getGameRecordList().size();
+            }
+            System.out.printf("replay %,d users / %,d records: %,.1f ms%n",
+                    userManager.getUserList().size(), records, elapsedNanos / 1_000_000.0);
+            gameStore.close();
+        }
+        userManager.clearAllUser();
+    }
+}
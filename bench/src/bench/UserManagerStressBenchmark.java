@@ -0,0 +1,82 @@
+package bench;
+
+import game.difficulty.DifficultyMode;
+import game.record.GameRecord;
+import game.state.ranking.RankingState;
+import user.User;
+import user.UserManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 여러 스레드가 동시에 로그인과 게임 기록 추가를 반복할 때의 UserManager 처리량을 측정합니다
+ * 한 스레드는 같은 시간 동안 전체 랭킹 계산(스냅샷 순회)을 반복해 읽기와 쓰기가 섞인 상황을 만듭니다
+ *
+ * 인자: [스레드 수 목록] (기본값 1 8 64)
+ */
+public class UserManagerStressBenchmark {
+
+    private static final int USER_COUNT = 100_000;
+    private static final long MEASURE_MILLIS = Long.getLong("bench.measure", 2000);
+
+    public static void main(String[] args) throws InterruptedException {
+        int[] threadCounts = args.length > 0
+                ? Arrays.stream(args).mapToInt(Integer::parseInt).toArray()
+                : new int[]{1, 8, 64};
+        for (int threadCount : threadCounts) {
+            run(threadCount);
+        }
+    }
+
+    private static void run(int threadCount) throws InterruptedException {
+        UserManager userManager = UserManager.getInstance();
+        userManager.clearAllUser();
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        LongAdder operations = new LongAdder();
+        LongAdder rankingScans = new LongAdder();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < threadCount; t++) {
+            long seed = t;
+            threads.add(new Thread(() -> {
+                SplittableRandom random = new SplittableRandom(seed);
+                LocalDateTime now = LocalDateTime.now();
+                while (running.get()) {
+                    User user = userManager.findOrCreate("user" + random.nextInt(USER_COUNT));
+                    GameRecord gameRecord = new GameRecord(DifficultyMode.EASY);
+                    gameRecord.increaseAttemptCnt();
+                    gameRecord.setFinished(true);
+                    gameRecord.setFinishedDate(now);
+                    user.addToGameRecordList(gameRecord);
+                    operations.increment();
+                }
+            }));
+        }
+        threads.add(new Thread(() -> {
+            while (running.get()) {
+                RankingState.getInstance().getUserRankingList(userManager.getUserList());
+                rankingScans.increment();
+            }
+        }));
+
+        long startNanos = System.nanoTime();
+        threads.forEach(Thread::start);
+        Thread.sleep(MEASURE_MILLIS);
+        running.set(false);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        double seconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+
+        System.out.printf("%3d threads: %,14.0f login+append ops/s, %,8.1f ranking scans/s, %,d users%n",
+                threadCount, operations.sum() / seconds, rankingScans.sum() / seconds,
+                userManager.getUserList().size());
+        userManager.clearAllUser();
+    }
+}
@@ -0,0 +1,197 @@
+package bench.jmh;
+
+import game.difficulty.DifficultyMode;
+import game.logic.BaseballGameLogic;
+import game.record.GameRecord;
+import game.state.ranking.RankingState;
+import user.User;
+import user.UserManager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게임 핵심 로직의 기준 성능을 JMH로 측정합니다
+ * bench 모듈의 GameCoreBenchmark(직접 만든 측정 도구)와 같은 항목을 측정하며,
+ * 연산당 할당 바이트는 -prof gc 옵션으로 확인합니다
+ *
+ * 실행: gradle :jmh:jmh -PjmhArgs="GameCoreBenchmark -prof gc"
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameCoreBenchmark {
+
+    private static final int NAME_COUNT = 1024;
+
+    /**
+     * 난이도별 숫자 생성기와 입력값
+     */
+    @State(Scope.Thread)
+    public static class LogicState {
+        @Param({"EASY", "MEDIUM", "HARD"})
+        DifficultyMode mode;
+
+        BaseballGameLogic pooled;
+        BaseballGameLogic seeded;
+        String valid;
+        String duplicated;
+
+        @Setup
+        public void setUp() {
+            pooled = new BaseballGameLogic(mode.getLen());
+            seeded = new BaseballGameLogic(mode.getLen(), 42L);
+            valid = "123456789".substring(0, mode.getLen());
+            duplicated = "1".repeat(mode.getLen());
+        }
+    }
+
+    /**
+     * userCount명의 사용자를 등록한 UserManager와 조회할 이름 목록
+     */
+    @State(Scope.Benchmark)
+    public static class UserLookupState {
+        @Param({"1000", "100000", "1000000"})
+        int userCount;
+
+        UserManager userManager;
+        String[] names;
+        int next;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            userManager = UserManager.getInstance();
+            userManager.clearAllUser();
+            for (int i = 0; i < userCount; i++) {
+                userManager.addUser(new User("user" + i));
+            }
+            SplittableRandom random = new SplittableRandom(1);
+            names = new String[NAME_COUNT];
+            for (int i = 0; i < names.length; i++) {
+                names[i] = "user" + random.nextInt(userCount);
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            userManager.clearAllUser();
+        }
+    }
+
+    /**
+     * 사용자마다 무작위 게임 기록 5개를 가진 사용자 목록
+     */
+    @State(Scope.Benchmark)
+    public static class RankingInput {
+        @Param({"1000", "100000"})
+        int userCount;
+
+        List<User> users;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            users = createUsersWithRecords(userCount, 5, new SplittableRandom(7));
+        }
+    }
+
+    @Benchmark
+    public int generateRandomNumberPooled(LogicState state) {
+        state.pooled.generateRandomNumber();
+        return state.pooled.getLen();
+    }
+
+    @Benchmark
+    public int generateRandomNumberSeeded(LogicState state) {
+        state.seeded.generateRandomNumber();
+        return state.seeded.getLen();
+    }
+
+    @Benchmark
+    public int validateInputValid(LogicState state) {
+        return state.seeded.validateInput(state.valid).size();
+    }
+
+    @Benchmark
+    public int validateInputInvalidException(LogicState state) {
+        try {
+            return state.seeded.validateInput(state.duplicated).size();
+        } catch (RuntimeException e) {
+            return 0;
+        }
+    }
+
+    @Benchmark
+    public int parseGuessInvalidErrorCode(LogicState state) {
+        return state.seeded.parseGuess(state.duplicated);
+    }
+
+    @Benchmark
+    public int evaluate(LogicState state) {
+        return state.seeded.evaluate(state.valid);
+    }
+
+    @Benchmark
+    public DifficultyMode findByLen() {
+        return DifficultyMode.findByLen(5);
+    }
+
+    @Benchmark
+    public DifficultyMode findByOption() {
+        return DifficultyMode.findByOption(3);
+    }
+
+    @Benchmark
+    public boolean findByUsername(UserLookupState state) {
+        return state.userManager.findByUsername(state.names[state.next++ & (NAME_COUNT - 1)]).isPresent();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public int rankingList(RankingInput input) {
+        return RankingState.getInstance().getUserRankingList(input.users).size();
+    }
+
+    /**
+     * 무작위 게임 기록을 가진 사용자 목록을 생성합니다
+     */
+    static List<User> createUsersWithRecords(int userCount, int recordsPerUser, SplittableRandom random) {
+        DifficultyMode[] modes = DifficultyMode.values();
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<User> users = new ArrayList<>(userCount);
+        for (int i = 0; i < userCount; i++) {
+            User user = new User("user" + i);
+            for (int r = 0; r < recordsPerUser; r++) {
+                GameRecord gameRecord = new GameRecord(modes[random.nextInt(modes.length)]);
+                int attempts = 1 + random.nextInt(15);
+                for (int a = 0; a < attempts; a++) {
+                    gameRecord.increaseAttemptCnt();
+                }
+                gameRecord.setFinished(true);
+                gameRecord.setFinishedDate(base.plusSeconds(random.nextInt(30_000_000)));
+                user.addToGameRecordList(gameRecord);
+            }
+            users.add(user);
+        }
+        return users;
+    }
+}
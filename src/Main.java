@@ -1,10 +1,44 @@
+import ex.InvalidInputException;
 import game.BaseballGame;
+import game.replay.SessionRecorder;
+import util.CustomDesign;
+import util.LineReader;
+import util.OutputProfile;
 
+import java.io.FileDescriptor;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.Random;
 
 public class Main {
+    private static final String RECORD_ARG_PREFIX = "--record=";
+
     public static void main(String[] args) {
-        BaseballGame baseballGame = new BaseballGame();
-        baseballGame.start();
+        try {
+            CustomDesign.setOutputProfile(OutputProfile.resolve(args));
+        } catch (InvalidInputException e) {
+            CustomDesign.printExceptionMessage(e.getMessage());
+        }
+
+        String recordFile = null;
+        for (String arg : args) {
+            if (arg.startsWith(RECORD_ARG_PREFIX)) recordFile = arg.substring(RECORD_ARG_PREFIX.length());
+        }
+        if (recordFile == null) {
+            BaseballGame baseballGame = new BaseballGame();
+            baseballGame.start();
+            return;
+        }
+
+        // 녹화하는 세션은 저장소 없이 빈 상태에서 시작해야 SessionReplayer로 같은 결과를 재현할 수 있습니다
+        try (SessionRecorder sessionRecorder = SessionRecorder.create(Paths.get(recordFile))) {
+            LineReader reader = new LineReader(new FileInputStream(FileDescriptor.in));
+            reader.setLineListener(sessionRecorder::lineRead);
+            BaseballGame baseballGame = new BaseballGame(reader, null, sessionRecorder.getClock(), sessionRecorder.getSecretSeed());
+            baseballGame.start();
+        } catch (IOException e) {
+            CustomDesign.printExceptionMessage("세션 파일을 만들지 못했습니다: " + e.getMessage());
+        }
     }
 }
\ No newline at end of file
@@ -1,11 +1,26 @@
 package game;
 
 
+import game.difficulty.DifficultyMode;
+import game.record.GameRecord;
+import game.session.GameSession;
 import game.state.GameState;
 import game.state.StartState;
+import game.state.ranking.LeaderboardManager;
+import store.GameStore;
 import user.User;
 import user.UserManager;
-
+import util.ConsoleRenderer;
+import util.CustomDesign;
+import util.LineReader;
+
+import java.io.FileDescriptor;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Clock;
 import java.util.*;
 
 /**
@@ -16,24 +31,80 @@ import java.util.*;
 public class BaseballGame {
     /** 현재 게임의 상태를 나타내는 객체 */
     private GameState gameState;
-    /** 현재 게임의 상태를 나타내는 객체 */
-    private final Scanner sc;
+    /** 사용자 입력을 한 줄씩 읽는 객체 */
+    private final LineReader reader;
     /** 게임 실행 여부를 나타내는 플래그 */
     private boolean isRunning;
     /** 현재 게임을 진행 중인 사용자 */
     private User currentUser;
     /** 게임에 참여한 모든 사용자를 관리하는 객체 */
     private final UserManager userManager;
+    /** 사용자와 게임 기록을 디스크에 보관하는 저장소, 열지 못했거나 저장하지 않는 경우 null */
+    private GameStore gameStore;
+    /** 게임 완료 일자와 랭킹 기간을 정하는 시계 */
+    private final Clock clock;
+    /** 게임마다 정답 생성 시드를 꺼내는 난수 생성기, 시드를 지정하지 않은 경우 null */
+    private final SplittableRandom secretSeeds;
+
+    /** 저장소 디렉토리를 지정하는 시스템 프로퍼티 */
+    private static final String STORE_DIR_PROPERTY = "baseball.store.dir";
+    private static final String DEFAULT_STORE_DIR = "data";
 
 
     /**
      * BaseballGame 클래스의 생성자입니다
-     * Scanner를 초기화하고 게임 실행 상태를 true로 설정합니다
+     * 표준 입력을 읽는 LineReader를 초기화하고 게임 실행 상태를 true로 설정합니다
+     * 저장소에서 이전 실행의 사용자와 게임 기록을 불러오며, 실패하면 저장 없이 진행합니다
+     * 불러온 기록으로 랭킹 보드를 만듭니다
      */
     public BaseballGame() {
-        sc = new Scanner(System.in);
+        this(new LineReader(new FileInputStream(FileDescriptor.in)),
+                Paths.get(System.getProperty(STORE_DIR_PROPERTY, DEFAULT_STORE_DIR)), Clock.systemDefaultZone(), null);
+    }
+
+    /**
+     * 입력, 저장소, 시계, 정답 시드를 지정하는 생성자입니다
+     * 시드를 지정하면 게임마다 시드에서 이어지는 정답을 만들므로, 같은 입력과 같은 시계로 실행하면 같은 게임이 재현됩니다
+     * 세션 녹화와 재생에서 사용합니다
+     *
+     * @param reader 사용자 입력을 한 줄씩 읽는 LineReader 객체
+     * @param storeDirectory 저장소 디렉토리, null이면 기록을 저장하지 않고 빈 상태에서 시작합니다
+     * @param clock 게임 완료 일자와 랭킹 기간을 정하는 시계
+     * @param secretSeed 정답 생성 시드, null이면 시드 없이 정답을 만듭니다
+     */
+    public BaseballGame(LineReader reader, Path storeDirectory, Clock clock, Long secretSeed) {
+        this.reader = reader;
+        this.clock = clock;
+        this.secretSeeds = secretSeed == null ? null : new SplittableRandom(secretSeed);
         isRunning = true;
         userManager = UserManager.getInstance();
+        gameStore = storeDirectory == null ? null : openGameStore(storeDirectory);
+        LeaderboardManager leaderboardManager = LeaderboardManager.getInstance();
+        leaderboardManager.setClock(clock);
+        leaderboardManager.rebuild(userManager.getUserList());
+    }
+
+    private GameStore openGameStore(Path directory) {
+        try {
+            return GameStore.open(directory, userManager);
+        } catch (IOException e) {
+            CustomDesign.printExceptionMessage("게임 기록을 불러오지 못해 이번 실행의 기록은 저장되지 않습니다: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 새 게임 세션을 만듭니다
+     * 정답 시드를 지정한 경우 시드에서 꺼낸 다음 값으로 정답을 만듭니다
+     *
+     * @param difficultyMode 게임 난이도
+     * @return 새 게임 세션
+     */
+    public GameSession newGameSession(DifficultyMode difficultyMode) {
+        if (secretSeeds == null) {
+            return new GameSession(difficultyMode, clock);
+        }
+        return new GameSession(difficultyMode, secretSeeds.nextLong(), clock);
     }
 
     public UserManager getUserManager() {
@@ -41,11 +112,55 @@ public class BaseballGame {
     }
 
     /**
-     * 게임을 종료하고 Scanner 객체를 닫습니다.
+     * 게임을 종료하고 저장소와 입력을 닫습니다.
      */
     public void exit() {
         isRunning = false;
-        sc.close();
+        try {
+            if (gameStore != null) gameStore.close();
+        } catch (UncheckedIOException e) {
+            CustomDesign.printExceptionMessage(e.getMessage());
+        }
+        gameStore = null;
+        reader.close();
+    }
+
+    /**
+     * 로그인한 사용자를 저장소에 기록합니다
+     *
+     * @param user 로그인한 사용자
+     */
+    public void saveLogin(User user) {
+        if (gameStore == null) return;
+        try {
+            gameStore.userLoggedIn(user);
+        } catch (UncheckedIOException e) {
+            stopSaving(e);
+        }
+    }
+
+    /**
+     * 사용자에게 추가된 게임 기록을 저장소에 기록합니다
+     *
+     * @param user 기록을 추가한 사용자
+     * @param gameRecord 추가된 게임 기록
+     * @param recordIndex 사용자의 게임 기록 중 추가된 기록의 순번
+     */
+    public void saveRecord(User user, GameRecord gameRecord, int recordIndex) {
+        if (gameStore == null) return;
+        try {
+            gameStore.recordAdded(user, gameRecord, recordIndex);
+        } catch (UncheckedIOException e) {
+            stopSaving(e);
+        }
+    }
+
+    /**
+     * 저장소 쓰기에 실패하면 알리고 이번 실행의 이후 기록은 저장하지 않습니다
+     */
+    private void stopSaving(UncheckedIOException e) {
+        CustomDesign.printExceptionMessage("게임 기록을 저장하지 못해 이후 기록은 저장되지 않습니다: " + e.getCause().getMessage());
+        gameStore = null;
     }
 
     /**
@@ -63,6 +178,7 @@ public class BaseballGame {
      */
     public void clearHistory(){
         userManager.clearAllUser();
+        LeaderboardManager.getInstance().clear();
     }
 
     /**
@@ -85,11 +201,16 @@ public class BaseballGame {
     /**
      * 게임을 시작하고 게임 루프를 실행합니다
      * 게임이 종료될 때까지 현재 상태에 따라 게임을 진행합니다
+     * 루프가 예외로 끝나더라도 화면 버퍼에 남은 출력은 내보냅니다
      */
     public void start(){
         gameState = StartState.getInstance();
-        while(isRunning) {
-            gameState.handle(this, sc);
+        try {
+            while(isRunning) {
+                gameState.handle(this, reader);
+            }
+        } finally {
+            ConsoleRenderer.getInstance().flush();
         }
     }
 
@@ -5,18 +5,32 @@ import game.difficulty.DifficultyMode;
 import util.CustomDesign;
 
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 /**
  * 숫자 야구 게임의 핵심 로직을 구현한 클래스입니다
  * 덤 숫자 생성, 사용자 입력 검증, 결과 계산 기능을 수행합니다
  */
 public class BaseballGameLogic {
     private final int LEN;
-    private final Set<Long> answers;
+    /** 정답의 자리별 숫자 (answerDigits[i] = i번째 자리 숫자, 앞 LEN 자리만 사용) */
+    private final int[] answerDigits;
+    /** 정답에 포함된 숫자의 9비트 마스크 (숫자 d -> 1 << (d - 1)) */
+    private int answerMask;
+    /** 사용자 입력을 담아두는 재사용 버퍼 */
+    private final int[] guessDigits;
 
-    private static final Random random = new Random();
+    /** 시드가 주어진 경우의 전용 난수 생성기, 없으면 스레드별 생성기를 사용합니다 */
+    private final RandomGenerator seededRandom;
 
-    private static final long MIN_NUMBER = 1L;
-    private static final long MAX_NUMBER = 10L;
+    /** 입력 길이가 자리 수와 다른 경우의 오류 코드 */
+    public static final int ERROR_LENGTH = -1;
+    /** 1부터 9까지의 숫자가 아닌 문자가 포함된 경우의 오류 코드 */
+    public static final int ERROR_NOT_DIGIT = -2;
+    /** 중복된 숫자가 포함된 경우의 오류 코드 */
+    public static final int ERROR_DUPLICATE = -3;
+    /** 입력이 비어 있는 경우의 오류 코드 */
+    public static final int ERROR_EMPTY = -4;
 
     /**
      * 생성자입니다
@@ -24,8 +38,25 @@ public class BaseballGameLogic {
      * @param LEN 생성할 랜덤 넘버의 길이 -> 이 값에 따라 게임의 난이도가 결정됩니다
      */
     public BaseballGameLogic(int LEN) {
+        this(LEN, null);
+    }
+
+    /**
+     * 정답 생성에 사용할 시드를 지정하는 생성자입니다
+     * 같은 시드로 만든 게임은 같은 순서로 같은 정답을 생성하므로 게임을 그대로 재현할 수 있습니다
+     *
+     * @param LEN 생성할 랜덤 넘버의 길이
+     * @param seed 정답 생성에 사용할 시드
+     */
+    public BaseballGameLogic(int LEN, long seed) {
+        this(LEN, new SplittableRandom(seed));
+    }
+
+    private BaseballGameLogic(int LEN, RandomGenerator seededRandom) {
         this.LEN = LEN;
-        answers  = new LinkedHashSet<>();
+        this.answerDigits = new int[SecretGenerator.DIGIT_COUNT];
+        this.guessDigits = new int[LEN];
+        this.seededRandom = seededRandom;
     }
 
     /**
@@ -50,51 +81,102 @@ public class BaseballGameLogic {
     /**
      * 게임에서 사용될 랜덤 넘버를 생성합니다
      * 생성된 숫자는 1부터 9까지의 중복되지 않는 숫자들로 구성됩니다
+     * 시드가 없으면 난이도별 정답 풀에서 꺼내고, 풀이 비어 있거나 시드가 있으면 직접 생성합니다
      */
     public void generateRandomNumber(){
-        while(answers.size() < LEN){
-            answers.add(random.nextLong(MIN_NUMBER, MAX_NUMBER));
+        if (seededRandom != null) {
+            answerMask = SecretGenerator.generate(seededRandom, answerDigits, LEN);
+        } else {
+            int packed = SecretPool.of(getMode()).poll();
+            answerMask = packed != SecretPool.EMPTY
+                    ? SecretGenerator.unpack(packed, LEN, answerDigits)
+                    : SecretGenerator.generate(ThreadLocalRandom.current(), answerDigits, LEN);
         }
-        System.out.println("랜덤 넘버 생성 완료 ✨");
 
         //디버깅 용도 랜덤 넘버 출력
-//        for (Long answer : answers) {
-//            System.out.print(answer +" ");
+//        for (int i = 0; i < LEN; i++) {
+//            System.out.print(answerDigits[i] +" ");
 //        }
 //        System.out.println();
     }
 
     /**
      * 사용자가 입력한 숫자 유효성을 검증합니다
+     * parseGuess의 오류 코드를 InvalidInputException으로 변환하는 래퍼입니다
      *
      * @param input 사용자가 입력한 숫자 문자열
      * @return 유효성 검증을 통과한 입력 숫자들의 Set
      * @throws InvalidInputException 입력이 유효하지 않을 경우 발생
      */
     public Set<Long> validateInput(String input) throws InvalidInputException {
-
-        if (input.length() != LEN) {
-            throw new InvalidInputException(LEN+" 자리수만큼 입력해야 합니다");
+        int guessMask = parseGuess(input);
+        if (guessMask < 0) {
+            throw new InvalidInputException(getErrorMessage(guessMask));
         }
 
-        //String -> Long 파싱 및 길이 검증, 숫자 검증
         Set<Long> inputSet = new LinkedHashSet<>();
-        for (char c : input.toCharArray()) {
-            // 0 입력 검증
-            if(c == '0'){
-                throw new InvalidInputException("유효하지 않은 입력입니다. 1부터 9까지의 정수만 입력해야 합니다.");
+        for (int i = 0; i < LEN; i++) {
+            inputSet.add((long) guessDigits[i]);
+        }
+        return inputSet;
+    }
+
+    /**
+     * 사용자가 입력한 숫자를 예외 없이 검증하고 내부 입력 버퍼에 파싱합니다
+     *
+     * @param input 사용자가 입력한 숫자 문자열
+     * @return 검증에 성공하면 입력 숫자의 마스크(양수), 실패하면 음수 오류 코드
+     */
+    public int parseGuess(CharSequence input) {
+        return parseGuess(input, LEN, guessDigits);
+    }
+
+    /**
+     * 문자열을 객체 생성 없이 자리별 숫자 배열로 파싱합니다
+     *
+     * @param input 파싱할 문자열
+     * @param len 기대하는 자리 수
+     * @param digits 파싱 결과를 담을 배열 (길이 len 이상)
+     * @return 검증에 성공하면 입력 숫자의 마스크(양수), 실패하면 음수 오류 코드
+     */
+    static int parseGuess(CharSequence input, int len, int[] digits) {
+        if (input.length() == 0) {
+            return ERROR_EMPTY;
+        }
+        if (input.length() != len) {
+            return ERROR_LENGTH;
+        }
+
+        int mask = 0;
+        for (int i = 0; i < len; i++) {
+            char c = input.charAt(i);
+            // 0 및 숫자가 아닌 입력 검증
+            if (c < '1' || c > '9') {
+                return ERROR_NOT_DIGIT;
             }
-            try{
-                long num = Long.parseLong(String.valueOf(c));
-                if (!inputSet.add(num)) {
-                    throw new InvalidInputException("중복되지 않는 숫자를 입력해야 합니다.");
-                }
-            } catch (NumberFormatException e) {
-                throw new InvalidInputException("유효하지 않은 입력입니다. 1부터 9까지의 정수만 입력해야 합니다.");
+            int digit = c - '0';
+            if ((mask & bitOf(digit)) != 0) {
+                return ERROR_DUPLICATE;
             }
+            digits[i] = digit;
+            mask |= bitOf(digit);
         }
+        return mask;
+    }
 
-        return inputSet;
+    /**
+     * 오류 코드에 해당하는 사용자 안내 문구를 반환합니다
+     *
+     * @param errorCode parseGuess가 반환한 음수 오류 코드
+     * @return 오류 안내 문구
+     */
+    public String getErrorMessage(int errorCode) {
+        return switch (errorCode) {
+            case ERROR_LENGTH -> LEN + " 자리수만큼 입력해야 합니다";
+            case ERROR_DUPLICATE -> "중복되지 않는 숫자를 입력해야 합니다.";
+            case ERROR_EMPTY -> "숫자를 입력해주세요";
+            default -> "유효하지 않은 입력입니다. 1부터 9까지의 정수만 입력해야 합니다.";
+        };
     }
 
     /**
@@ -104,46 +186,79 @@ public class BaseballGameLogic {
      * @return 사용자의 입력이 정답과 일치하면 true, 그렇지 않으면 false
      */
     public boolean validateAnswer(String input){
-
-        Set<Long> inputSet;
+        int result = evaluate(input);
         //입력 값 검증
-        try {
-             inputSet = validateInput(input);
-        }catch(InvalidInputException e){
-            CustomDesign.printExceptionMessage(e.getMessage());
+        if (result < 0) {
+            CustomDesign.printExceptionMessage(getErrorMessage(result));
             return false;
         }
 
-        ResultCount resultCount = calculateResult(inputSet);
-        resultCount.printResult();
+        ResultCount.printResult(result, LEN);
 
-        return resultCount.getStrikeCnt() == LEN;
+        return ResultCount.strikeOf(result) == LEN;
     }
 
     /**
-     * 사용자 입력과 정답을 비교하여 결과를 계산합니다
+     * 콘솔 출력 없이 사용자의 입력을 검증하고 정답과 비교합니다
      *
-     * @param inputSet 사용자가 입력한 숫자 집합
-     * @return 스트라이크, 볼, 아웃 개수를 포함한 ResultCount 객체
+     * @param input 사용자가 입력한 숫자 문자열
+     * @return 검증에 성공하면 ResultCount.pack 형식의 결과(0 이상), 실패하면 음수 오류 코드
      */
-    private ResultCount calculateResult(Set<Long> inputSet){
-        //정답과 비교
-        Iterator<Long> inputIter = inputSet.iterator();
-        Iterator<Long> answerIter = answers.iterator();
-
-        int strikeCnt = 0, ballCnt = 0, outCnt;
-
-        for(int i = 0;i<LEN;i++){
-            Long inputNum = inputIter.next();
-            Long answerNum = answerIter.next();
-            if(inputNum.equals(answerNum)) strikeCnt++;
-            else if(answers.contains(inputNum)) ballCnt++;
+    public int evaluate(CharSequence input){
+        int guessMask = parseGuess(input);
+        if (guessMask < 0) {
+            return guessMask;
         }
-        outCnt = LEN - strikeCnt - ballCnt;
+        return calculateResult(guessDigits, guessMask);
+    }
 
-        return new ResultCount(strikeCnt, ballCnt, outCnt);
+    /**
+     * 마지막으로 검증에 성공한 입력의 조합 번호를 반환합니다
+     *
+     * @return PermutationIndex 기준 조합 번호
+     */
+    public int getLastGuessRank(){
+        return PermutationIndex.rank(guessDigits, LEN);
     }
 
+    /**
+     * 사용자 입력과 정답을 비교하여 결과를 계산합니다
+     *
+     * @param guessDigits 사용자가 입력한 자리별 숫자
+     * @param guessMask 사용자가 입력한 숫자의 9비트 마스크
+     * @return 스트라이크, 볼 개수를 담은 압축 결과 (ResultCount.pack 참고)
+     */
+    private int calculateResult(int[] guessDigits, int guessMask){
+        return score(answerDigits, answerMask, guessDigits, guessMask, LEN);
+    }
 
+    /**
+     * 자리별 숫자 배열과 숫자 마스크로 표현된 정답과 입력을 비교합니다
+     * 스트라이크는 자리별 비교로, 볼은 두 마스크의 공통 비트 수에서 스트라이크를 빼서 구합니다
+     *
+     * @param answerDigits 정답의 자리별 숫자
+     * @param answerMask 정답의 숫자 마스크
+     * @param guessDigits 입력의 자리별 숫자
+     * @param guessMask 입력의 숫자 마스크
+     * @param len 비교할 자리 수
+     * @return 스트라이크, 볼 개수를 담은 압축 결과
+     */
+    static int score(int[] answerDigits, int answerMask, int[] guessDigits, int guessMask, int len){
+        int strikeCnt = 0;
+        for(int i = 0;i<len;i++){
+            if(answerDigits[i] == guessDigits[i]) strikeCnt++;
+        }
+        int ballCnt = Integer.bitCount(answerMask & guessMask) - strikeCnt;
+        return ResultCount.pack(strikeCnt, ballCnt);
+    }
 
+    /**
+     * 숫자에 해당하는 마스크 비트를 반환합니다
+     *
+     * @param digit 1부터 9까지의 숫자
+     * @return 해당 숫자의 마스크 비트
+     */
+    static int bitOf(int digit){
+        return 1 << (digit - 1);
+    }
 }
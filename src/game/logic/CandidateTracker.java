@@ -0,0 +1,125 @@
+package game.logic;
+
+import game.difficulty.DifficultyMode;
+
+/**
+ * 지금까지의 입력과 결과에 모두 들어맞는 정답 후보를 추적하는 클래스입니다
+ * 후보는 조합 번호 비트셋으로 관리하며, 결과가 나올 때마다 남은 후보만 다시 걸러냅니다
+ * 결과표(FeedbackTable)가 이미 만들어져 있으면 표에서 조회하고, 아니면 남은 후보마다 BaseballGameLogic.score로 직접 비교합니다
+ * 콘솔 게임에서 첫 입력 때 결과표 전체를 만드느라 기다리지 않도록 추적기는 결과표를 만들지 않습니다
+ * 게임 세션마다 새 인스턴스를 생성해 사용합니다
+ */
+public class CandidateTracker {
+
+    private final FeedbackTable feedbackTable;
+    private final long[] candidates;
+    private final int len;
+    private final int[] guessDigits;
+    private final int[] candidateDigits;
+    private int remainingCount;
+
+    /**
+     * 모든 조합을 후보로 하는 추적기를 생성합니다
+     *
+     * @param difficultyMode 게임 난이도
+     */
+    public CandidateTracker(DifficultyMode difficultyMode) {
+        this.feedbackTable = FeedbackTable.of(difficultyMode);
+        this.candidates = new long[(feedbackTable.size() + 63) >>> 6];
+        this.len = difficultyMode.getLen();
+        this.guessDigits = new int[len];
+        this.candidateDigits = new int[len];
+        reset();
+    }
+
+    /**
+     * 모든 조합을 다시 후보로 되돌립니다
+     * 같은 난이도의 다음 게임에 인스턴스를 재사용할 때 호출합니다
+     */
+    public void reset() {
+        int size = feedbackTable.size();
+        for (int i = 0; i < size >>> 6; i++) {
+            candidates[i] = -1L;
+        }
+        if ((size & 63) != 0) {
+            candidates[size >>> 6] = (1L << size) - 1;
+        }
+        remainingCount = size;
+    }
+
+    /**
+     * 입력 결과와 맞지 않는 후보를 제거합니다
+     *
+     * @param guessRank 입력의 조합 번호
+     * @param result ResultCount.pack 형식의 결과
+     * @return 남은 후보 수
+     */
+    public int update(int guessRank, int result) {
+        boolean useTable = feedbackTable.isLoaded();
+        feedbackTable.digitsOf(guessRank, guessDigits);
+        int guessMask = feedbackTable.maskOf(guessRank);
+        int count = 0;
+        for (int w = 0; w < candidates.length; w++) {
+            long word = candidates[w];
+            long remaining = word;
+            while (word != 0) {
+                int bit = Long.numberOfTrailingZeros(word);
+                int candidate = (w << 6) + bit;
+                int actual;
+                if (useTable) {
+                    actual = feedbackTable.get(guessRank, candidate);
+                } else {
+                    feedbackTable.digitsOf(candidate, candidateDigits);
+                    actual = BaseballGameLogic.score(candidateDigits, feedbackTable.maskOf(candidate), guessDigits, guessMask, len);
+                }
+                if (actual != result) {
+                    remaining &= ~(1L << bit);
+                }
+                word &= word - 1;
+            }
+            candidates[w] = remaining;
+            count += Long.bitCount(remaining);
+        }
+        remainingCount = count;
+        return count;
+    }
+
+    /**
+     * 남은 후보 수를 반환합니다
+     *
+     * @return 남은 후보 수
+     */
+    public int getRemainingCount() {
+        return remainingCount;
+    }
+
+    /**
+     * 남은 후보 중 index번째(0부터) 후보의 조합 번호를 반환합니다
+     *
+     * @param index 0 이상 남은 후보 수 미만의 순번
+     * @return 후보의 조합 번호
+     */
+    public int candidateAt(int index) {
+        for (int w = 0; w < candidates.length; w++) {
+            long word = candidates[w];
+            int count = Long.bitCount(word);
+            if (index < count) {
+                for (int skip = 0; skip < index; skip++) {
+                    word &= word - 1;
+                }
+                return (w << 6) + Long.numberOfTrailingZeros(word);
+            }
+            index -= count;
+        }
+        throw new IndexOutOfBoundsException("남은 후보 수를 벗어난 순번입니다: " + index);
+    }
+
+    /**
+     * 남은 후보의 비트셋을 반환합니다 (비트 i = 조합 번호 i)
+     *
+     * @return 후보 비트셋
+     */
+    public long[] getCandidates() {
+        return candidates;
+    }
+}
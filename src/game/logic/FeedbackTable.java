@@ -0,0 +1,233 @@
+package game.logic;
+
+import game.difficulty.DifficultyMode;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.zip.CRC32C;
+
+/**
+ * 난이도별로 가능한 모든 (입력, 정답) 쌍의 결과를 미리 계산해 둔 표입니다
+ * 입력과 정답은 PermutationIndex의 조합 번호(rank)로 표현하며, 결과는 ResultCount.pack 형식의 1바이트로 저장됩니다
+ * 표가 작은 난이도는 힙에 두고, HARD처럼 큰 표는 임시 디렉토리의 파일로 만들어 메모리 매핑합니다
+ * 파일 앞에는 형식 번호, 숫자 길이, 표의 체크섬을 담은 헤더를 두고, 매핑할 때 모두 확인해 다르면 표를 다시 만듭니다
+ */
+public final class FeedbackTable {
+
+    /** 이 크기(바이트)를 넘는 표는 힙 대신 메모리 매핑 파일을 사용합니다 */
+    private static final long HEAP_LIMIT = 16L * 1024 * 1024;
+    private static final String FILE_PREFIX = "baseball-feedback-v1-";
+    private static final int MAGIC = 0x42424631; // "BBF1"
+    /** 파일 헤더의 바이트 수 (형식 번호 4, 숫자 길이 4, CRC32C 체크섬 8) */
+    private static final int HEADER_BYTES = 16;
+
+    private static final Map<DifficultyMode, FeedbackTable> tables = new EnumMap<>(DifficultyMode.class);
+
+    private final DifficultyMode mode;
+    private final int len;
+    private final int size;
+    /** 순열 번호별 자리 숫자 (rank * len + i) */
+    private final int[] digits;
+    /** 순열 번호별 숫자 마스크 */
+    private final int[] masks;
+
+    private volatile ByteBuffer table;
+
+    private FeedbackTable(DifficultyMode mode) {
+        this.mode = mode;
+        this.len = mode.getLen();
+        this.size = PermutationIndex.size(len);
+        this.digits = new int[size * len];
+        this.masks = new int[size];
+        int[] current = new int[len];
+        for (int rank = 0; rank < size; rank++) {
+            masks[rank] = PermutationIndex.unrank(rank, len, current);
+            System.arraycopy(current, 0, digits, rank * len, len);
+        }
+    }
+
+    /**
+     * 주어진 난이도의 결과표를 반환합니다
+     * 순열 목록만 먼저 만들고, 결과 값은 처음 조회할 때 계산합니다
+     *
+     * @param mode 게임 난이도
+     * @return 해당 난이도의 결과표
+     */
+    public static synchronized FeedbackTable of(DifficultyMode mode) {
+        return tables.computeIfAbsent(mode, FeedbackTable::new);
+    }
+
+    /**
+     * 해당 난이도에서 가능한 숫자 조합의 개수를 반환합니다
+     *
+     * @return 9Plen 값
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 자리별 숫자 배열의 순열 번호를 반환합니다
+     *
+     * @param guessDigits 자리별 숫자 (1부터 9까지, 중복 없음)
+     * @return 순열 번호
+     */
+    public int rankOf(int[] guessDigits) {
+        return PermutationIndex.rank(guessDigits, len);
+    }
+
+    /**
+     * 순열 번호에 해당하는 자리별 숫자를 배열에 채웁니다
+     *
+     * @param rank 순열 번호
+     * @param out 결과를 담을 배열 (길이 len 이상)
+     */
+    public void digitsOf(int rank, int[] out) {
+        System.arraycopy(digits, rank * len, out, 0, len);
+    }
+
+    /**
+     * 순열 번호에 해당하는 숫자 마스크를 반환합니다
+     *
+     * @param rank 순열 번호
+     * @return 숫자 마스크
+     */
+    public int maskOf(int rank) {
+        return masks[rank];
+    }
+
+    /**
+     * 결과표가 이미 만들어져 있는지 반환합니다
+     * 만들어져 있지 않으면 get을 처음 호출할 때 표 전체를 계산합니다 (HARD는 약 218MB 파일)
+     *
+     * @return 결과표가 준비되어 있으면 true
+     */
+    public boolean isLoaded() {
+        return table != null;
+    }
+
+    /**
+     * 입력과 정답의 비교 결과를 표에서 조회합니다
+     *
+     * @param guessRank 입력의 순열 번호
+     * @param secretRank 정답의 순열 번호
+     * @return ResultCount.pack 형식의 결과 값
+     */
+    public int get(int guessRank, int secretRank) {
+        return table().get(guessRank * size + secretRank);
+    }
+
+    private ByteBuffer table() {
+        ByteBuffer t = table;
+        if (t == null) {
+            synchronized (this) {
+                t = table;
+                if (t == null) {
+                    t = (long) size * size <= HEAP_LIMIT ? buildOnHeap() : mapFile();
+                    table = t;
+                }
+            }
+        }
+        return t;
+    }
+
+    private ByteBuffer buildOnHeap() {
+        byte[] bytes = new byte[size * size];
+        IntStream.range(0, size).parallel()
+                .forEach(guess -> fillRow(guess, bytes, guess * size));
+        return ByteBuffer.wrap(bytes);
+    }
+
+    /**
+     * 임시 디렉토리의 결과표 파일을 매핑합니다
+     * 파일이 없거나 헤더, 크기, 체크섬 중 하나라도 맞지 않으면 새로 계산해 임시 파일에 쓴 뒤 이름을 바꿔 완성된 파일만 보이도록 합니다
+     */
+    private ByteBuffer mapFile() {
+        long bytes = (long) size * size;
+        Path dir = Paths.get(System.getProperty("java.io.tmpdir"));
+        Path file = dir.resolve(FILE_PREFIX + mode.name() + ".bin");
+        try {
+            ByteBuffer mapped = mapIfValid(file, bytes);
+            if (mapped == null) {
+                writeFile(dir, file, bytes);
+                mapped = mapIfValid(file, bytes);
+            }
+            if (mapped == null) {
+                throw new IOException("새로 만든 결과표 파일의 검증에 실패했습니다");
+            }
+            return mapped;
+        } catch (IOException e) {
+            throw new UncheckedIOException("결과표 파일을 준비하지 못했습니다: " + file, e);
+        }
+    }
+
+    /**
+     * 결과표 파일의 헤더와 체크섬이 이 난이도의 표와 맞으면 표 부분을 매핑해 반환합니다
+     *
+     * @return 매핑한 표, 파일이 없거나 맞지 않으면 null
+     */
+    private ByteBuffer mapIfValid(Path file, long bytes) throws IOException {
+        if (!Files.exists(file) || Files.size(file) != HEADER_BYTES + bytes) return null;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            while (header.hasRemaining()) {
+                if (channel.read(header) < 0) return null;
+            }
+            if (header.getInt(0) != MAGIC || header.getInt(4) != len) return null;
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_BYTES, bytes);
+            return checksum(mapped) == header.getLong(8) ? mapped : null;
+        }
+    }
+
+    /**
+     * 표 전체를 계산해 헤더와 함께 임시 파일에 쓰고, 결과표 파일 이름으로 바꿉니다
+     */
+    private void writeFile(Path dir, Path file, long bytes) throws IOException {
+        Path tmp = Files.createTempFile(dir, FILE_PREFIX, ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                MappedByteBuffer out = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES + bytes);
+                ByteBuffer body = out.slice(HEADER_BYTES, (int) bytes);
+                IntStream.range(0, size).parallel().forEach(guess -> {
+                    byte[] row = new byte[size];
+                    fillRow(guess, row, 0);
+                    body.put(guess * size, row);
+                });
+                out.putInt(0, MAGIC);
+                out.putInt(4, len);
+                out.putLong(8, checksum(body));
+                out.force();
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    private static long checksum(ByteBuffer table) {
+        CRC32C crc = new CRC32C();
+        crc.update(table.duplicate().clear());
+        return crc.getValue();
+    }
+
+    private void fillRow(int guess, byte[] out, int offset) {
+        int[] guessDigits = new int[len];
+        int[] secretDigits = new int[len];
+        digitsOf(guess, guessDigits);
+        for (int secret = 0; secret < size; secret++) {
+            digitsOf(secret, secretDigits);
+            out[offset + secret] = (byte) BaseballGameLogic.score(secretDigits, masks[secret], guessDigits, masks[guess], len);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package game.logic;
+
+import game.difficulty.DifficultyMode;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Knuth의 minimax 방식으로 다음 입력을 고르는 풀이기입니다
+ * 남은 정답 후보를 결과별로 나눴을 때 가장 큰 그룹이 가장 작아지는 입력을 고르며,
+ * 동점이면 후보에 포함된 입력, 그다음 조합 번호가 작은 입력을 우선합니다
+ * 입력 후보 구간을 fork-join으로 나눠 병렬로 평가하고, 결과 계산은 FeedbackTable 조회로 대신합니다
+ * HARD 난이도의 첫 결과 뒤 결정(후보 수천 개)은 코어 하나에서 수백 ms가 걸려 수십 ms 목표를 만족하지 못하며,
+ * 목표에 맞추려면 코어 수에 비례해 빨라진다고 해도 6개 이상의 코어가 필요합니다 (측정: bench.SolverLatencyBenchmark)
+ */
+public class MinimaxSolver {
+
+    /** 한 작업이 직접 평가하는 입력 후보 수 */
+    private static final int GUESSES_PER_TASK = 64;
+    private static final long RANK_MASK = Integer.MAX_VALUE;
+
+    private final FeedbackTable feedbackTable;
+    private final int size;
+    private final int resultSlots;
+    private final ForkJoinPool pool;
+
+    /**
+     * 공용 fork-join 풀을 사용하는 풀이기를 생성합니다
+     *
+     * @param difficultyMode 게임 난이도
+     */
+    public MinimaxSolver(DifficultyMode difficultyMode) {
+        this(difficultyMode, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * 지정한 fork-join 풀을 사용하는 풀이기를 생성합니다
+     *
+     * @param difficultyMode 게임 난이도
+     * @param pool 입력 후보 평가에 사용할 풀
+     */
+    public MinimaxSolver(DifficultyMode difficultyMode, ForkJoinPool pool) {
+        this.feedbackTable = FeedbackTable.of(difficultyMode);
+        this.size = feedbackTable.size();
+        this.resultSlots = ResultCount.pack(difficultyMode.getLen(), 0) + 1;
+        this.pool = pool;
+    }
+
+    /**
+     * 남은 정답 후보에 대해 최악의 경우 남는 후보 수가 가장 적은 입력을 반환합니다
+     *
+     * @param candidates 정답 후보의 조합 번호 비트셋 (비트 i = 조합 번호 i)
+     * @return 다음 입력의 조합 번호, 후보가 없으면 -1
+     */
+    public int bestGuess(long[] candidates) {
+        int[] candidateRanks = toRanks(candidates);
+        if (candidateRanks.length <= 1) {
+            return candidateRanks.length == 0 ? -1 : candidateRanks[0];
+        }
+        // 모든 조합이 후보이면 숫자를 바꿔 불러도 같은 상황이므로 어떤 입력이든 동등합니다
+        if (candidateRanks.length == size) {
+            return 0;
+        }
+        long best = pool.invoke(new SearchTask(feedbackTable, resultSlots, 0, size, candidates, candidateRanks, new AtomicInteger(Integer.MAX_VALUE)));
+        return (int) (best & RANK_MASK);
+    }
+
+    /**
+     * 추적 중인 남은 후보에 대해 가장 좋은 입력을 반환합니다
+     *
+     * @param candidateTracker 정답 후보 추적기
+     * @return 다음 입력의 조합 번호, 후보가 없으면 -1
+     */
+    public int bestGuess(CandidateTracker candidateTracker) {
+        return bestGuess(candidateTracker.getCandidates());
+    }
+
+    /**
+     * 주어진 입력을 했을 때 최악의 경우 남는 후보 수를 계산합니다
+     * 사용자의 입력을 최선의 입력과 비교할 때 사용합니다
+     *
+     * @param guessRank 입력의 조합 번호
+     * @param candidates 정답 후보의 조합 번호 비트셋
+     * @return 결과별로 나눈 후보 그룹 중 가장 큰 그룹의 크기
+     */
+    public int worstCase(int guessRank, long[] candidates) {
+        return worstCase(feedbackTable, guessRank, toRanks(candidates), new int[resultSlots], Integer.MAX_VALUE);
+    }
+
+    /**
+     * 입력 하나의 최악의 그룹 크기를 계산합니다
+     * 이미 limit 이상이 되면 더 볼 필요가 없으므로 중단합니다
+     */
+    private static int worstCase(FeedbackTable feedbackTable, int guessRank, int[] candidateRanks, int[] counts, int limit) {
+        Arrays.fill(counts, 0);
+        int worst = 0;
+        for (int secretRank : candidateRanks) {
+            int count = ++counts[feedbackTable.get(guessRank, secretRank)];
+            if (count > worst) {
+                worst = count;
+                if (worst > limit) break;
+            }
+        }
+        return worst;
+    }
+
+    private static int[] toRanks(long[] candidates) {
+        int count = 0;
+        for (long word : candidates) {
+            count += Long.bitCount(word);
+        }
+        int[] ranks = new int[count];
+        int n = 0;
+        for (int w = 0; w < candidates.length; w++) {
+            long word = candidates[w];
+            while (word != 0) {
+                ranks[n++] = (w << 6) + Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+            }
+        }
+        return ranks;
+    }
+
+    /**
+     * 입력 후보 구간 [from, to)에서 가장 좋은 입력을 찾는 작업입니다
+     * 결과는 (최악의 그룹 크기, 후보 여부, 조합 번호) 순으로 비교되도록 하나의 long 값에 담습니다
+     * 지금까지 찾은 가장 작은 최악의 그룹 크기를 작업 간에 공유해 더 나쁜 입력은 일찍 건너뜁니다
+     */
+    private static final class SearchTask extends RecursiveTask<Long> {
+        private static final long serialVersionUID = 1L;
+
+        private final transient FeedbackTable feedbackTable;
+        private final int resultSlots;
+        private final int from, to;
+        private final long[] candidates;
+        private final int[] candidateRanks;
+        private final AtomicInteger bestWorst;
+
+        SearchTask(FeedbackTable feedbackTable, int resultSlots, int from, int to,
+                   long[] candidates, int[] candidateRanks, AtomicInteger bestWorst) {
+            this.feedbackTable = feedbackTable;
+            this.resultSlots = resultSlots;
+            this.from = from;
+            this.to = to;
+            this.candidates = candidates;
+            this.candidateRanks = candidateRanks;
+            this.bestWorst = bestWorst;
+        }
+
+        @Override
+        protected Long compute() {
+            if (to - from > GUESSES_PER_TASK) {
+                int mid = (from + to) >>> 1;
+                SearchTask left = new SearchTask(feedbackTable, resultSlots, from, mid, candidates, candidateRanks, bestWorst);
+                left.fork();
+                long right = new SearchTask(feedbackTable, resultSlots, mid, to, candidates, candidateRanks, bestWorst).compute();
+                return Math.min(left.join(), right);
+            }
+
+            int[] counts = new int[resultSlots];
+            long best = Long.MAX_VALUE;
+            for (int guessRank = from; guessRank < to; guessRank++) {
+                int limit = bestWorst.get();
+                int worst = worstCase(feedbackTable, guessRank, candidateRanks, counts, limit);
+                if (worst > limit) continue;
+                boolean isCandidate = (candidates[guessRank >>> 6] & (1L << guessRank)) != 0;
+                long key = ((long) worst << 32) | ((isCandidate ? 0L : 1L) << 31) | guessRank;
+                if (key < best) {
+                    best = key;
+                    bestWorst.accumulateAndGet(worst, Math::min);
+                }
+            }
+            return best;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package game.logic;
+
+/**
+ * 1부터 9까지의 중복 없는 숫자 조합(입력, 정답)과 0부터 시작하는 조밀한 번호 사이를 변환합니다
+ * 각 자리에서 아직 쓰이지 않은 더 작은 숫자의 개수(Lehmer 코드)를 계승 진법 가중치로 더해 번호를 구하므로
+ * 번호 순서는 숫자 조합의 사전 순서와 같습니다
+ */
+public final class PermutationIndex {
+
+    private static final int DIGIT_COUNT = 9;
+    private static final int ALL_DIGITS = (1 << DIGIT_COUNT) - 1;
+
+    /** WEIGHTS[len][i] = i번째 자리 이후 남은 자리들로 만들 수 있는 조합 수 */
+    private static final int[][] WEIGHTS = new int[DIGIT_COUNT + 1][];
+
+    static {
+        for (int len = 0; len <= DIGIT_COUNT; len++) {
+            WEIGHTS[len] = new int[len];
+            for (int i = 0; i < len; i++) {
+                WEIGHTS[len][i] = permutations(DIGIT_COUNT - i - 1, len - i - 1);
+            }
+        }
+    }
+
+    private PermutationIndex() {
+    }
+
+    /**
+     * 주어진 길이에서 만들 수 있는 숫자 조합의 개수를 반환합니다
+     *
+     * @param len 숫자 길이
+     * @return 9Plen 값
+     */
+    public static int size(int len) {
+        return permutations(DIGIT_COUNT, len);
+    }
+
+    /**
+     * 자리별 숫자 배열을 조합 번호로 변환합니다
+     * 숫자는 1부터 9까지이며 중복이 없어야 합니다 (parseGuess를 통과한 입력)
+     *
+     * @param digits 자리별 숫자
+     * @param len 숫자 길이
+     * @return 0 이상 size(len) 미만의 조합 번호
+     */
+    public static int rank(int[] digits, int len) {
+        int[] weights = WEIGHTS[len];
+        int rank = 0, used = 0;
+        for (int i = 0; i < len; i++) {
+            int bit = BaseballGameLogic.bitOf(digits[i]);
+            int smallerUnused = Integer.bitCount(~used & (bit - 1));
+            rank += smallerUnused * weights[i];
+            used |= bit;
+        }
+        return rank;
+    }
+
+    /**
+     * 조합 번호를 자리별 숫자 배열로 되돌립니다
+     *
+     * @param rank 0 이상 size(len) 미만의 조합 번호
+     * @param len 숫자 길이
+     * @param out 결과를 담을 배열 (길이 len 이상)
+     * @return 복원한 숫자들의 마스크
+     */
+    public static int unrank(int rank, int len, int[] out) {
+        int[] weights = WEIGHTS[len];
+        int used = 0;
+        for (int i = 0; i < len; i++) {
+            int smallerUnused = rank / weights[i];
+            rank -= smallerUnused * weights[i];
+
+            int free = ALL_DIGITS & ~used;
+            for (int skip = 0; skip < smallerUnused; skip++) {
+                free &= free - 1;
+            }
+            int bit = Integer.lowestOneBit(free);
+            out[i] = Integer.numberOfTrailingZeros(bit) + 1;
+            used |= bit;
+        }
+        return used;
+    }
+
+    private static int permutations(int n, int k) {
+        int count = 1;
+        for (int i = 0; i < k; i++) {
+            count *= n - i;
+        }
+        return count;
+    }
+}
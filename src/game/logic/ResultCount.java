@@ -7,24 +7,81 @@ import util.CustomDesign;
  * 스트라이크, 볼, 아웃의 개수를 저장하고 관리합니다
  * NumberBaseballLogic 클래스에서 사용됩니다
  */
-class ResultCount {
+public class ResultCount {
 
     int strikeCnt; //스트라이크 개수
     int ballCnt; //볼 개수
     int outCnt; //아웃 개수
 
+    private static final int BALL_BITS = 4;
+    private static final int BALL_MASK = (1 << BALL_BITS) - 1;
+
     public ResultCount(int strikeCnt, int ballCnt, int outCnt) {
         this.strikeCnt = strikeCnt;
         this.ballCnt = ballCnt;
         this.outCnt = outCnt;
     }
 
+    /**
+     * 스트라이크, 볼 개수를 하나의 int 값으로 압축합니다
+     *
+     * @param strikeCnt 스트라이크 개수
+     * @param ballCnt 볼 개수
+     * @return 압축된 결과 값
+     */
+    public static int pack(int strikeCnt, int ballCnt) {
+        return (strikeCnt << BALL_BITS) | ballCnt;
+    }
+
+    /**
+     * 압축된 결과 값에서 스트라이크 개수를 꺼냅니다
+     *
+     * @param result 압축된 결과 값
+     * @return 스트라이크 개수
+     */
+    public static int strikeOf(int result) {
+        return result >>> BALL_BITS;
+    }
+
+    /**
+     * 압축된 결과 값에서 볼 개수를 꺼냅니다
+     *
+     * @param result 압축된 결과 값
+     * @return 볼 개수
+     */
+    public static int ballOf(int result) {
+        return result & BALL_MASK;
+    }
+
+    /**
+     * 압축된 결과 값으로 ResultCount 객체를 생성합니다
+     *
+     * @param result 압축된 결과 값
+     * @param len 숫자 길이
+     * @return 결과를 담은 ResultCount 객체
+     */
+    public static ResultCount of(int result, int len) {
+        int strikeCnt = strikeOf(result), ballCnt = ballOf(result);
+        return new ResultCount(strikeCnt, ballCnt, len - strikeCnt - ballCnt);
+    }
+
+    /**
+     * 압축된 결과 값의 라운드 결과를 출력합니다
+     * 가능한 모든 결과 줄은 CustomDesign이 난이도별로 미리 인코딩해 두므로 표에서 찾아 출력합니다
+     *
+     * @param result 압축된 결과 값
+     * @param len 숫자 길이
+     */
+    public static void printResult(int result, int len) {
+        CustomDesign.printResult(result, len);
+    }
+
     /**
      * 현재 라운드 결과를 출력합니다
      * CustomDesign 클래스의 printResult 메소드를 사용하여 결과를 표시합니다
      */
     public void printResult(){
-        CustomDesign.printResult(this.strikeCnt, this.ballCnt, this.outCnt);
+        printResult(pack(strikeCnt, ballCnt), strikeCnt + ballCnt + outCnt);
     }
 
 
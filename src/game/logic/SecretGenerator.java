@@ -0,0 +1,75 @@
+package game.logic;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * 1부터 9까지의 중복 없는 정답 숫자를 생성합니다
+ * 숫자 배열에 부분 Fisher-Yates 셔플을 적용하므로 재시도 없이 O(len) 안에 끝나며 객체를 만들지 않습니다
+ */
+public final class SecretGenerator {
+
+    /** 정답으로 사용할 수 있는 숫자의 개수 (1 ~ 9) */
+    public static final int DIGIT_COUNT = 9;
+
+    private SecretGenerator() {
+    }
+
+    /**
+     * 숫자 배열의 앞 len 자리를 무작위 정답으로 채웁니다
+     * 배열을 1부터 9까지로 초기화한 뒤 셔플하므로 같은 시드의 생성기는 항상 같은 정답을 만듭니다
+     *
+     * @param random 사용할 난수 생성기 (호출 스레드 전용이어야 합니다)
+     * @param digits 길이 9 이상의 작업 배열, 앞 len 자리에 정답이 담깁니다
+     * @param len 정답 길이
+     * @return 정답 숫자들의 마스크
+     */
+    public static int generate(RandomGenerator random, int[] digits, int len) {
+        for (int i = 0; i < DIGIT_COUNT; i++) {
+            digits[i] = i + 1;
+        }
+
+        int mask = 0;
+        for (int i = 0; i < len; i++) {
+            int j = i + random.nextInt(DIGIT_COUNT - i);
+            int digit = digits[j];
+            digits[j] = digits[i];
+            digits[i] = digit;
+            mask |= BaseballGameLogic.bitOf(digit);
+        }
+        return mask;
+    }
+
+    /**
+     * 자리별 숫자를 자리당 4비트씩 하나의 int 값으로 압축합니다
+     *
+     * @param digits 자리별 숫자
+     * @param len 숫자 길이
+     * @return 압축된 정답 값 (항상 0 이상)
+     */
+    public static int pack(int[] digits, int len) {
+        int packed = 0;
+        for (int i = len - 1; i >= 0; i--) {
+            packed = (packed << 4) | digits[i];
+        }
+        return packed;
+    }
+
+    /**
+     * 압축된 정답 값을 자리별 숫자 배열로 되돌립니다
+     *
+     * @param packed pack으로 압축한 값
+     * @param len 숫자 길이
+     * @param digits 결과를 담을 배열 (길이 len 이상)
+     * @return 정답 숫자들의 마스크
+     */
+    public static int unpack(int packed, int len, int[] digits) {
+        int mask = 0;
+        for (int i = 0; i < len; i++) {
+            int digit = packed & 0xF;
+            digits[i] = digit;
+            mask |= BaseballGameLogic.bitOf(digit);
+            packed >>>= 4;
+        }
+        return mask;
+    }
+}
@@ -0,0 +1,122 @@
+package game.logic;
+
+import game.difficulty.DifficultyMode;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 난이도별로 미리 생성해 둔 정답을 보관하는 고정 크기 링 버퍼입니다
+ * 백그라운드 데몬 스레드가 버퍼가 절반 아래로 줄어들 때마다 다시 채우며,
+ * 게임은 poll로 O(1)에 정답을 꺼내고 비어 있으면 직접 생성합니다
+ */
+public final class SecretPool {
+
+    /** 풀이 비어 있을 때 poll이 반환하는 값 */
+    public static final int EMPTY = -1;
+
+    private static final int CAPACITY = 1024;
+    private static final Map<DifficultyMode, SecretPool> pools = new EnumMap<>(DifficultyMode.class);
+
+    private final int len;
+    private final int[] ring = new int[CAPACITY];
+    private int head; // 다음에 꺼낼 위치
+    private int count; // 보관 중인 정답 수
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    private SecretPool(DifficultyMode mode) {
+        this.len = mode.getLen();
+        Thread producer = new Thread(this::produce, "secret-pool-" + mode.name().toLowerCase());
+        producer.setDaemon(true);
+        producer.start();
+    }
+
+    /**
+     * 주어진 난이도의 정답 풀을 반환합니다
+     * 처음 호출될 때 풀을 만들고 채우는 스레드를 시작합니다
+     *
+     * @param mode 게임 난이도
+     * @return 해당 난이도의 정답 풀
+     */
+    public static synchronized SecretPool of(DifficultyMode mode) {
+        return pools.computeIfAbsent(mode, SecretPool::new);
+    }
+
+    /**
+     * 미리 생성된 정답 하나를 꺼냅니다
+     *
+     * @return SecretGenerator.pack 형식의 정답, 풀이 비어 있으면 EMPTY
+     */
+    public int poll() {
+        int packed;
+        synchronized (this) {
+            if (count == 0) {
+                packed = EMPTY;
+            } else {
+                packed = ring[head];
+                head = (head + 1) % CAPACITY;
+                if (--count == CAPACITY / 2) notifyAll();
+            }
+        }
+        if (packed == EMPTY) missCount.increment();
+        else hitCount.increment();
+        return packed;
+    }
+
+    /**
+     * 풀에서 정답을 꺼내는 데 성공한 횟수를 반환합니다
+     *
+     * @return 누적 성공 횟수
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * 풀이 비어 있어 직접 생성해야 했던 횟수를 반환합니다
+     *
+     * @return 누적 실패 횟수
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * 현재 보관 중인 정답 수를 반환합니다
+     *
+     * @return 보관 중인 정답 수
+     */
+    public synchronized int size() {
+        return count;
+    }
+
+    /**
+     * 풀을 채우는 백그라운드 루프입니다
+     * 버퍼가 가득 차면 절반 아래로 줄어들 때까지 대기합니다
+     */
+    private void produce() {
+        int[] digits = new int[SecretGenerator.DIGIT_COUNT];
+        try {
+            while (true) {
+                synchronized (this) {
+                    while (count > CAPACITY / 2) wait();
+                }
+                while (true) {
+                    SecretGenerator.generate(ThreadLocalRandom.current(), digits, len);
+                    int packed = SecretGenerator.pack(digits, len);
+                    synchronized (this) {
+                        if (count == CAPACITY) break;
+                        ring[(head + count) % CAPACITY] = packed;
+                        count++;
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
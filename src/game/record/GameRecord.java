@@ -4,48 +4,124 @@ import game.difficulty.DifficultyMode;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 
 /**
  * 사용자의 게임 기록을 관리하는 클래스입니다
- * 게임 시도 횟수와 게임 난이도를 저장합니다
- * User 클래스에서 리스트를 통해 관리되며,
+ * 게임 시도 횟수와 게임 난이도를 저장하며, 게임을 완료하면 점수를 한 번 계산해 함께 저장합니다
+ * 시도 횟수, 점수, 완료 일자는 RecordArena와 RankingKey가 담을 수 있는 범위로 기록할 때 맞춰 두므로,
+ * 저장했다 읽은 기록과 정렬 키의 순서가 원래 값의 비교와 같습니다
+ * 완료된 기록은 User를 통해 RecordArena에 압축 저장되며,
  * RecordState클래스와 RunState 클래스에서 사용됩니다
  */
 public class GameRecord {
 
+    /**
+     * 완료 일자를 초 단위 정수로 압축할 때의 기준 시각(2020-01-01T00:00 UTC, epoch 초)입니다
+     * RecordArena의 저장 형식과 RankingKey의 정렬 키가 같은 기준을 사용해야 같은 범위의 일자를 구분합니다
+     */
+    public static final long FINISHED_DATE_EPOCH = LocalDateTime.of(2020, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+    /** 완료 일자로 기록할 수 있는 FINISHED_DATE_EPOCH 이후의 최대 초 (부호 없는 32비트, 약 136년) */
+    public static final long MAX_FINISHED_SECONDS = 0xFFFF_FFFFL;
+    /** 기록할 수 있는 최대 시도 횟수, 이후의 시도는 세지 않습니다 */
+    public static final int MAX_ATTEMPT_CNT = 0xFFFF;
+
     private int attemptCnt; //게임 시도 횟수
     private final DifficultyMode difficultyMode; //게임 난이도
     private boolean isFinished; //게임 성공 여부
 
     private LocalDateTime finishedDate; //게임 성공 일자
+    private int score; //완료 시 계산한 게임 점수
 
     public GameRecord(int gameNumber,  DifficultyMode difficultyMode) {
+        this(difficultyMode);
+    }
+
+    public GameRecord(DifficultyMode difficultyMode) {
         this.attemptCnt = 0;
         this.difficultyMode = difficultyMode;
         this.isFinished = false;
     }
 
-    public void setFinishedDate(LocalDateTime finishedDate) {
+    /**
+     * 저장소에 보관된 값으로 게임 기록을 복원합니다 (GameStore에서 사용)
+     * 완료된 기록이면 시도 횟수로 점수를 다시 계산합니다
+     *
+     * @param difficultyMode 게임 난이도
+     * @param attemptCnt 게임 시도 횟수
+     * @param isFinished 게임 성공 여부
+     * @param finishedDate 게임 성공 일자, 없으면 null
+     */
+    public GameRecord(DifficultyMode difficultyMode, int attemptCnt, boolean isFinished, LocalDateTime finishedDate) {
+        this(difficultyMode, Math.max(0, Math.min(MAX_ATTEMPT_CNT, attemptCnt)), isFinished, clampFinishedDate(finishedDate),
+                isFinished ? GameScore.calculate(difficultyMode, attemptCnt) : 0);
+    }
+
+    /**
+     * 저장된 값으로 게임 기록을 복원합니다 (RecordArena에서 사용)
+     * 저장된 값은 이미 기록할 수 있는 범위 안에 있으므로 그대로 사용합니다
+     */
+    GameRecord(DifficultyMode difficultyMode, int attemptCnt, boolean isFinished, LocalDateTime finishedDate, int score) {
+        this.attemptCnt = attemptCnt;
+        this.difficultyMode = difficultyMode;
+        this.isFinished = isFinished;
         this.finishedDate = finishedDate;
+        this.score = score;
+    }
+
+    /**
+     * 완료 일자를 설정합니다
+     * 초 단위로 자르고, 기록할 수 있는 범위(FINISHED_DATE_EPOCH부터 MAX_FINISHED_SECONDS초)를 벗어나면 가장 가까운 일자로 바꿉니다
+     *
+     * @param finishedDate 게임 성공 일자
+     */
+    public void setFinishedDate(LocalDateTime finishedDate) {
+        this.finishedDate = clampFinishedDate(finishedDate);
+    }
+
+    private static LocalDateTime clampFinishedDate(LocalDateTime finishedDate) {
+        if (finishedDate == null) return null;
+        long seconds = finishedDate.toEpochSecond(ZoneOffset.UTC) - FINISHED_DATE_EPOCH;
+        if (seconds < 0 || seconds > MAX_FINISHED_SECONDS) {
+            long clamped = Math.max(0L, Math.min(MAX_FINISHED_SECONDS, seconds));
+            return LocalDateTime.ofEpochSecond(FINISHED_DATE_EPOCH + clamped, 0, ZoneOffset.UTC);
+        }
+        return finishedDate.getNano() == 0 ? finishedDate : finishedDate.withNano(0);
     }
 
     public LocalDateTime getFinishedDate() {
         return finishedDate;
     }
 
+    /**
+     * 게임 성공 여부를 설정합니다
+     * 성공으로 설정하면 현재 시도 횟수로 점수를 계산해 저장합니다
+     *
+     * @param finished 게임 성공 여부
+     */
     public void setFinished(boolean finished) {
         isFinished = finished;
+        score = finished ? GameScore.calculate(difficultyMode, attemptCnt) : 0;
     }
 
     public boolean isFinished() {
         return isFinished;
     }
 
+    /**
+     * 게임 완료 시 계산한 점수를 반환합니다
+     * @return 게임 점수, 완료하지 않은 게임이면 0
+     */
+    public int getScore() {
+        return score;
+    }
+
     /**
      * 게임 시도 횟수를 증가합니다
+     * MAX_ATTEMPT_CNT에 이르면 더 늘리지 않습니다
      */
     public void increaseAttemptCnt() {
-        this.attemptCnt++;
+        if (attemptCnt < MAX_ATTEMPT_CNT) attemptCnt++;
     }
 
 
@@ -0,0 +1,60 @@
+package game.record;
+
+import game.difficulty.DifficultyMode;
+
+/**
+ * 완료한 게임의 점수를 계산하는 클래스입니다
+ * 점수는 기본 100점에 난이도 가산점과 시도 횟수 보너스를 더하고 시도 횟수만큼 뺀 값입니다
+ * 게임 기록이 완료될 때 한 번만 계산되어 GameRecord에 저장됩니다
+ * 점수는 RecordArena와 RankingKey가 담는 16비트 범위(MIN_SCORE~MAX_SCORE)로 맞춥니다
+ */
+public final class GameScore {
+
+    private static final int BASE_SCORE = 100;
+    public static final int MIN_SCORE = Short.MIN_VALUE;
+    public static final int MAX_SCORE = Short.MAX_VALUE;
+
+    private GameScore() {
+    }
+
+    /**
+     * 게임의 최종 점수를 계산합니다
+     *
+     * @param difficultyMode 게임 난이도
+     * @param attemptCnt 시도 횟수
+     * @return 계산된 게임 점수 (MIN_SCORE~MAX_SCORE)
+     */
+    public static int calculate(DifficultyMode difficultyMode, int attemptCnt) {
+        int score = BASE_SCORE;
+        score += getDifficultyScore(difficultyMode);
+        score -= attemptCnt;
+        score += getBonusScore(attemptCnt);
+        return Math.max(MIN_SCORE, Math.min(MAX_SCORE, score));
+    }
+
+    /**
+     * 시도 횟수에 따른 보너스 점수를 계산합니다
+     *
+     * @param attemptCount 시도 횟수
+     * @return 보너스 점수
+     */
+    private static int getBonusScore(int attemptCount) {
+        if (attemptCount <= 3) return 10;
+        if (attemptCount <= 5) return 5;
+        return 0;
+    }
+
+    /**
+     * 게임 난이도에 따른 가산점을 반환합니다
+     *
+     * @param difficultyMode 게임 난이도
+     * @return 난이도에 따른 가산점
+     */
+    private static int getDifficultyScore(DifficultyMode difficultyMode){
+        return switch(difficultyMode){
+            case EASY -> 1;
+            case MEDIUM -> 3;
+            case HARD -> 5;
+        };
+    }
+}
@@ -0,0 +1,318 @@
+package game.record;
+
+import game.difficulty.DifficultyMode;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * 게임 기록을 고정 길이 슬롯으로 압축해 메모리 매핑 파일에 보관하는 저장 공간입니다
+ * 슬롯 하나는 15바이트이며 (이전 슬롯 번호 4, 시도 횟수 4, 완료 시각 4, 플래그 1, 점수 2) 구성입니다
+ * 완료 시각은 GameRecord.FINISHED_DATE_EPOCH부터의 초를 부호 없는 int로 저장합니다
+ * 사용자별 기록은 마지막 슬롯에서 이전 슬롯으로 이어지는 연결 목록이므로 기록이 쌓여도 힙은 늘어나지 않습니다
+ * 파일은 실행마다 임시 디렉토리에 새로 만드는 작업 공간이며, 기록의 영속성은 GameStore가 담당합니다
+ * reset으로 슬롯을 회수할 때마다 세대 번호가 바뀌며, 기록과 조회는 호출자가 가진 세대가 현재 세대일 때만 처리합니다
+ * 세대 확인과 슬롯 접근은 읽기 잠금, reset은 쓰기 잠금 안에서 하므로 회수 중이거나 회수된 슬롯을 쓰거나 읽지 않습니다
+ */
+public final class RecordArena {
+
+    /** 이전 기록이 없음을 나타내는 슬롯 번호 */
+    public static final int NO_SLOT = -1;
+
+    static final int SLOT_BYTES = 15;
+    private static final int PREV_OFFSET = 0;
+    private static final int ATTEMPT_OFFSET = 4;
+    private static final int DATE_OFFSET = 8;
+    private static final int FLAG_OFFSET = 12;
+    private static final int SCORE_OFFSET = 13;
+
+    private static final int MODE_MASK = 0x03;
+    private static final int FINISHED_FLAG = 0x04;
+    private static final int DATE_FLAG = 0x08;
+
+    /** 한 번에 매핑하는 구간의 크기 (슬롯 경계에 맞춘 약 64MB) */
+    private static final int SLOTS_PER_CHUNK = (64 * 1024 * 1024) / SLOT_BYTES;
+    private static final long CHUNK_BYTES = (long) SLOTS_PER_CHUNK * SLOT_BYTES;
+
+    private static RecordArena recordArena;
+
+    private final DifficultyMode[] modes = DifficultyMode.values();
+    private final Path file;
+    private final FileChannel channel;
+    private final AtomicInteger nextSlot = new AtomicInteger();
+    /** 기록/조회(읽기 잠금)와 reset(쓰기 잠금)을 나누는 잠금 */
+    private final StampedLock generationLock = new StampedLock();
+    private volatile int generation;
+    private volatile MappedByteBuffer[] chunks = new MappedByteBuffer[0];
+
+    private RecordArena(Path file) throws IOException {
+        this.file = file;
+        this.channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    /**
+     * 실행 중 공유하는 기록 저장 공간을 반환합니다
+     * 처음 호출할 때 임시 디렉토리에 작업 파일을 만들고, 파일은 프로그램 종료 시 삭제됩니다
+     *
+     * @return 기록 저장 공간
+     * @throws UncheckedIOException 작업 파일을 만들지 못한 경우 발생
+     */
+    public static synchronized RecordArena getInstance() {
+        if (recordArena == null) {
+            try {
+                Path dir = Paths.get(System.getProperty("java.io.tmpdir"));
+                Path file = Files.createTempFile(dir, "baseball-records-", ".bin");
+                file.toFile().deleteOnExit();
+                recordArena = new RecordArena(file);
+            } catch (IOException e) {
+                throw new UncheckedIOException("게임 기록 저장 공간을 만들지 못했습니다", e);
+            }
+        }
+        return recordArena;
+    }
+
+    /**
+     * 게임 기록을 새 슬롯에 기록합니다
+     * 완료 시각은 초 단위로 저장되며, 2020년 이전 시각은 2020-01-01T00:00으로 저장됩니다
+     * 점수는 short 범위로 저장됩니다
+     *
+     * @param gameRecord 기록할 게임 기록
+     * @param prevSlot 같은 사용자의 직전 기록 슬롯 번호, 없으면 NO_SLOT
+     * @param generation prevSlot이 속한 세대 (getGeneration으로 얻은 값)
+     * @return 기록한 슬롯 번호, generation이 현재 세대가 아니면(그 사이 reset됨) 기록하지 않고 NO_SLOT
+     */
+    public int append(GameRecord gameRecord, int prevSlot, int generation) {
+        long stamp = generationLock.readLock();
+        try {
+            if (generation != this.generation) return NO_SLOT;
+            return write(gameRecord, prevSlot);
+        } finally {
+            generationLock.unlockRead(stamp);
+        }
+    }
+
+    private int write(GameRecord gameRecord, int prevSlot) {
+        int slot = nextSlot.getAndIncrement();
+        if (slot < 0) {
+            throw new IllegalStateException("게임 기록 저장 공간이 가득 찼습니다");
+        }
+        MappedByteBuffer chunk = chunkOf(slot);
+        int offset = (slot % SLOTS_PER_CHUNK) * SLOT_BYTES;
+
+        int flags = gameRecord.getDifficultyMode().ordinal();
+        if (gameRecord.isFinished()) flags |= FINISHED_FLAG;
+        int seconds = 0;
+        LocalDateTime finishedDate = gameRecord.getFinishedDate();
+        if (finishedDate != null) {
+            flags |= DATE_FLAG;
+            long sinceBase = finishedDate.toEpochSecond(ZoneOffset.UTC) - GameRecord.FINISHED_DATE_EPOCH;
+            seconds = (int) Math.min(Math.max(sinceBase, 0L), GameRecord.MAX_FINISHED_SECONDS);
+        }
+
+        chunk.putInt(offset + PREV_OFFSET, prevSlot);
+        chunk.putInt(offset + ATTEMPT_OFFSET, gameRecord.getAttemptCnt());
+        chunk.putInt(offset + DATE_OFFSET, seconds);
+        chunk.put(offset + FLAG_OFFSET, (byte) flags);
+        chunk.putShort(offset + SCORE_OFFSET, (short) Math.max(GameScore.MIN_SCORE, Math.min(GameScore.MAX_SCORE, gameRecord.getScore())));
+        return slot;
+    }
+
+    /**
+     * 슬롯에 저장된 게임 기록을 새 GameRecord 객체로 읽어 옵니다
+     * 반환된 객체를 수정해도 저장된 기록은 바뀌지 않습니다
+     *
+     * @param slot 슬롯 번호
+     * @param generation 슬롯이 속한 세대
+     * @return 슬롯의 게임 기록, generation이 현재 세대가 아니면(슬롯이 회수됨) null
+     */
+    public GameRecord read(int slot, int generation) {
+        // 대부분의 조회는 reset과 겹치지 않으므로 잠그지 않고 읽은 뒤, 그 사이 reset이 있었을 때만 잠그고 다시 읽습니다
+        long optimistic = generationLock.tryOptimisticRead();
+        if (optimistic != 0 && generation == this.generation) {
+            GameRecord gameRecord = decode(slot);
+            if (generationLock.validate(optimistic)) return gameRecord;
+        }
+        long stamp = generationLock.readLock();
+        try {
+            return generation == this.generation ? decode(slot) : null;
+        } finally {
+            generationLock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * 슬롯을 읽어 GameRecord로 만듭니다
+     * 잠그지 않고 읽는 중 슬롯이 덮어써질 수 있으므로 난이도 값이 범위를 벗어나면 null을 반환합니다
+     */
+    private GameRecord decode(int slot) {
+        MappedByteBuffer chunk = chunks[slot / SLOTS_PER_CHUNK];
+        int offset = (slot % SLOTS_PER_CHUNK) * SLOT_BYTES;
+        int flags = chunk.get(offset + FLAG_OFFSET);
+        if ((flags & MODE_MASK) >= modes.length) return null;
+        LocalDateTime finishedDate = null;
+        if ((flags & DATE_FLAG) != 0) {
+            long seconds = Integer.toUnsignedLong(chunk.getInt(offset + DATE_OFFSET));
+            finishedDate = LocalDateTime.ofEpochSecond(GameRecord.FINISHED_DATE_EPOCH + seconds, 0, ZoneOffset.UTC);
+        }
+        return new GameRecord(modes[flags & MODE_MASK], chunk.getInt(offset + ATTEMPT_OFFSET),
+                (flags & FINISHED_FLAG) != 0, finishedDate, chunk.getShort(offset + SCORE_OFFSET));
+    }
+
+    /**
+     * 같은 사용자의 직전 기록 슬롯 번호를 반환합니다
+     */
+    private int prevOf(int slot) {
+        return chunks[slot / SLOTS_PER_CHUNK].getInt((slot % SLOTS_PER_CHUNK) * SLOT_BYTES + PREV_OFFSET);
+    }
+
+    /**
+     * 마지막 슬롯에서 시작하는 기록 연결 목록을 오래된 순서의 읽기 전용 리스트로 반환합니다
+     * 리스트는 마지막 슬롯 번호와 기록 수만 가진 뷰이므로 만들거나 크기를 확인하는 데 비용이 들지 않습니다
+     * 기록을 처음 조회할 때 연결 목록을 한 번 따라가 슬롯 번호를 모아 두고, 각 GameRecord는 조회할 때 만듭니다
+     *
+     * 조회할 때 슬롯이 이미 회수되었으면(reset) ConcurrentModificationException을 던집니다
+     *
+     * @param lastSlot 마지막 기록의 슬롯 번호
+     * @param count 연결 목록의 기록 수
+     * @param generation 연결 목록이 속한 세대
+     * @return 게임 기록 리스트
+     */
+    public List<GameRecord> listOf(int lastSlot, int count, int generation) {
+        return new RecordList(lastSlot, count, generation);
+    }
+
+    /**
+     * 모든 슬롯을 비우고 첫 슬롯부터 다시 사용합니다
+     * 작업 파일과 매핑한 구간은 그대로 두고 덮어쓰므로 파일 크기는 줄지 않습니다
+     * 진행 중인 기록과 조회가 끝나기를 기다린 뒤 세대를 바꾸므로, 이전 세대의 슬롯 번호로는 더 이상 기록하거나 조회할 수 없습니다
+     */
+    public void reset() {
+        long stamp = generationLock.writeLock();
+        try {
+            generation++;
+            nextSlot.set(0);
+        } finally {
+            generationLock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * 현재 세대 번호를 반환합니다 (reset할 때마다 바뀝니다)
+     *
+     * @return 세대 번호
+     */
+    public int getGeneration() {
+        return generation;
+    }
+
+    /**
+     * 지금까지 사용한 저장 공간의 크기를 반환합니다
+     *
+     * @return 사용한 슬롯 수 × 슬롯 크기 (바이트)
+     */
+    public long getUsedBytes() {
+        return (long) nextSlot.get() * SLOT_BYTES;
+    }
+
+    /**
+     * 작업 파일의 경로를 반환합니다
+     *
+     * @return 작업 파일 경로
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    private MappedByteBuffer chunkOf(int slot) {
+        int index = slot / SLOTS_PER_CHUNK;
+        MappedByteBuffer[] current = chunks;
+        if (index < current.length) {
+            return current[index];
+        }
+        synchronized (this) {
+            current = chunks;
+            if (index >= current.length) {
+                MappedByteBuffer[] grown = Arrays.copyOf(current, index + 1);
+                try {
+                    for (int i = current.length; i <= index; i++) {
+                        grown[i] = channel.map(FileChannel.MapMode.READ_WRITE, i * CHUNK_BYTES, CHUNK_BYTES);
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException("게임 기록 저장 공간을 늘리지 못했습니다: " + file, e);
+                }
+                chunks = grown;
+                current = grown;
+            }
+            return current[index];
+        }
+    }
+
+    /**
+     * 기록 연결 목록 위의 읽기 전용 게임 기록 리스트입니다
+     * 슬롯 번호 배열은 기록을 처음 조회할 때 만듭니다
+     */
+    private final class RecordList extends AbstractList<GameRecord> implements RandomAccess {
+        private final int lastSlot;
+        private final int count;
+        private final int generation;
+        private int[] slots; //오래된 순서의 슬롯 번호, 처음 조회할 때 채웁니다
+
+        RecordList(int lastSlot, int count, int generation) {
+            this.lastSlot = lastSlot;
+            this.count = count;
+            this.generation = generation;
+        }
+
+        @Override
+        public GameRecord get(int index) {
+            Objects.checkIndex(index, count);
+            GameRecord gameRecord = read(index == count - 1 ? lastSlot : slots()[index], generation);
+            if (gameRecord == null) {
+                throw new ConcurrentModificationException("게임 기록 저장 공간이 초기화되었습니다");
+            }
+            return gameRecord;
+        }
+
+        @Override
+        public int size() {
+            return count;
+        }
+
+        private int[] slots() {
+            if (slots == null) {
+                int[] collected = new int[count];
+                long stamp = generationLock.readLock();
+                try {
+                    if (generation != RecordArena.this.generation) {
+                        throw new ConcurrentModificationException("게임 기록 저장 공간이 초기화되었습니다");
+                    }
+                    int slot = lastSlot;
+                    for (int i = count - 1; i >= 0; i--) {
+                        collected[i] = slot;
+                        slot = prevOf(slot);
+                    }
+                } finally {
+                    generationLock.unlockRead(stamp);
+                }
+                slots = collected;
+            }
+            return slots;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package game.replay;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+
+/**
+ * 입력을 읽을 때만 앞으로 가는 시계입니다
+ * 녹화할 때는 입력을 읽은 실제 시각으로, 재생할 때는 녹화된 시각으로 맞추므로
+ * 두 실행에서 게임 완료 일자와 랭킹 기간이 같게 계산됩니다
+ */
+public final class SessionClock extends Clock {
+
+    private final ZoneId zone;
+    private volatile long millis;
+
+    public SessionClock(ZoneId zone, long millis) {
+        this.zone = zone;
+        this.millis = millis;
+    }
+
+    /**
+     * 시계의 현재 시각을 맞춥니다
+     *
+     * @param millis epoch 기준 시각(ms)
+     */
+    public void set(long millis) {
+        this.millis = millis;
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    /**
+     * 다른 시간대의 시계를 반환합니다
+     * 반환된 시계는 지금 시각에 멈춰 있으며 이후 set을 따라가지 않습니다
+     */
+    @Override
+    public Clock withZone(ZoneId zone) {
+        return Clock.fixed(instant(), zone);
+    }
+
+    @Override
+    public long millis() {
+        return millis;
+    }
+
+    @Override
+    public Instant instant() {
+        return Instant.ofEpochMilli(millis);
+    }
+}
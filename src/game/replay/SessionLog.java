@@ -0,0 +1,187 @@
+package game.replay;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZoneId;
+import java.util.Arrays;
+
+/**
+ * 녹화한 콘솔 세션 파일입니다
+ * 머리말(형식 번호, 정답 시드, 시작 시각(epoch ms), 시간대) 뒤에 입력 줄마다
+ * (직전 입력과의 시간 차(ms), 줄 길이, UTF-8 바이트)를 이어 쓰며, 시간 차와 길이는 7비트씩 나눈 가변 길이 정수로 저장합니다
+ * 마지막 항목이 쓰다 만 상태(비정상 종료)이면 그 앞까지만 읽습니다
+ */
+public final class SessionLog {
+
+    private static final int MAGIC = 0x42425331; // "BBS1"
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final long secretSeed;
+    private final long startMillis;
+    private final ZoneId zone;
+    /** 입력 줄마다 시작 시각부터 지난 시간(ms) */
+    private final long[] offsetMillis;
+    private final String[] lines;
+
+    private SessionLog(long secretSeed, long startMillis, ZoneId zone, long[] offsetMillis, String[] lines) {
+        this.secretSeed = secretSeed;
+        this.startMillis = startMillis;
+        this.zone = zone;
+        this.offsetMillis = offsetMillis;
+        this.lines = lines;
+    }
+
+    /**
+     * 세션 파일을 읽습니다
+     *
+     * @param file 세션 파일
+     * @return 읽은 세션
+     * @throws IOException 파일을 읽지 못했거나 세션 파일 형식이 아닌 경우 발생
+     */
+    public static SessionLog read(Path file) throws IOException {
+        try (InputStream raw = Files.newInputStream(file);
+             DataInputStream in = new DataInputStream(new BufferedInputStream(raw, BUFFER_SIZE))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("세션 파일 형식이 올바르지 않습니다: " + file);
+            }
+            long secretSeed = in.readLong();
+            long startMillis = in.readLong();
+            ZoneId zone = ZoneId.of(in.readUTF());
+
+            long[] offsets = new long[64];
+            String[] lines = new String[64];
+            int count = 0;
+            long offset = 0;
+            byte[] bytes = new byte[128];
+            while (true) {
+                try {
+                    long delta = readVarLong(in);
+                    if (delta < 0) break;
+                    int length = (int) readVarLong(in);
+                    if (length < 0) break;
+                    if (bytes.length < length) bytes = new byte[Math.max(length, bytes.length * 2)];
+                    in.readFully(bytes, 0, length);
+                    offset += delta;
+                    if (count == lines.length) {
+                        offsets = Arrays.copyOf(offsets, count * 2);
+                        lines = Arrays.copyOf(lines, count * 2);
+                    }
+                    offsets[count] = offset;
+                    lines[count++] = new String(bytes, 0, length, StandardCharsets.UTF_8);
+                } catch (EOFException e) {
+                    break;
+                }
+            }
+            return new SessionLog(secretSeed, startMillis, zone, Arrays.copyOf(offsets, count), Arrays.copyOf(lines, count));
+        }
+    }
+
+    public long getSecretSeed() {
+        return secretSeed;
+    }
+
+    public long getStartMillis() {
+        return startMillis;
+    }
+
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    /**
+     * 녹화한 입력 줄 수를 반환합니다
+     *
+     * @return 입력 줄 수
+     */
+    public int size() {
+        return lines.length;
+    }
+
+    /**
+     * 입력 줄을 반환합니다
+     *
+     * @param index 입력 순번
+     * @return 줄바꿈 문자를 뺀 입력 줄
+     */
+    public String lineAt(int index) {
+        return lines[index];
+    }
+
+    /**
+     * 입력 줄을 읽은 시각을 세션 시작부터 지난 시간으로 반환합니다
+     *
+     * @param index 입력 순번
+     * @return 세션 시작부터 지난 시간(ms)
+     */
+    public long offsetMillisAt(int index) {
+        return offsetMillis[index];
+    }
+
+    /**
+     * 가변 길이 정수를 읽습니다
+     *
+     * @return 읽은 값, 첫 바이트를 읽기 전에 파일이 끝났으면 -1
+     */
+    private static long readVarLong(DataInputStream in) throws IOException {
+        int b = in.read();
+        if (b < 0) return -1;
+        long value = 0;
+        int shift = 0;
+        while (true) {
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+            shift += 7;
+            b = in.readUnsignedByte();
+        }
+    }
+
+    /**
+     * 세션 파일을 순서대로 쓰는 클래스입니다
+     */
+    static final class Writer implements Closeable {
+        private final DataOutputStream out;
+
+        Writer(Path file, long secretSeed, long startMillis, ZoneId zone) throws IOException {
+            out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), BUFFER_SIZE));
+            out.writeInt(MAGIC);
+            out.writeLong(secretSeed);
+            out.writeLong(startMillis);
+            out.writeUTF(zone.getId());
+        }
+
+        /**
+         * 입력 줄 하나를 씁니다
+         *
+         * @param deltaMillis 직전 입력과의 시간 차(ms)
+         * @param line 줄바꿈 문자를 뺀 입력 줄
+         */
+        void write(long deltaMillis, String line) throws IOException {
+            byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(deltaMillis);
+            writeVarLong(bytes.length);
+            out.write(bytes);
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+
+        private void writeVarLong(long value) throws IOException {
+            while ((value & ~0x7FL) != 0) {
+                out.writeByte((int) (value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            out.writeByte((int) value);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package game.replay;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.ZoneId;
+import java.util.SplittableRandom;
+
+/**
+ * 콘솔 세션의 입력을 세션 파일로 녹화하는 클래스입니다
+ * 녹화를 시작할 때 정답 시드와 시작 시각을 정해 기록하고, LineReader가 읽은 줄마다 읽은 시각과 함께 덧붙입니다
+ * 게임은 getSecretSeed의 시드와 getClock의 시계로 실행해야 재생 결과가 녹화와 같습니다
+ */
+public final class SessionRecorder implements Closeable {
+
+    private final SessionLog.Writer writer;
+    private final SessionClock clock;
+    private final long secretSeed;
+    private final long startMillis;
+    private final long startNanos;
+    private long lastOffsetMillis;
+
+    private SessionRecorder(Path file, long secretSeed, long startMillis, ZoneId zone) throws IOException {
+        this.writer = new SessionLog.Writer(file, secretSeed, startMillis, zone);
+        this.clock = new SessionClock(zone, startMillis);
+        this.secretSeed = secretSeed;
+        this.startMillis = startMillis;
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * 새 세션 파일에 녹화를 시작합니다
+     * 정답 시드는 무작위로 정하고, 시작 시각과 시간대는 현재 시스템 값을 사용합니다
+     *
+     * @param file 세션 파일 (이미 있으면 덮어씁니다)
+     * @return 세션 녹화기
+     * @throws IOException 파일을 만들지 못한 경우 발생
+     */
+    public static SessionRecorder create(Path file) throws IOException {
+        return new SessionRecorder(file, new SplittableRandom().nextLong(), System.currentTimeMillis(), ZoneId.systemDefault());
+    }
+
+    /**
+     * 읽은 입력 줄을 기록하고 시계를 읽은 시각으로 맞춥니다
+     * LineReader의 줄 리스너로 등록해 사용합니다
+     *
+     * @param line 줄바꿈 문자를 뺀 입력 줄
+     * @throws UncheckedIOException 세션 파일에 쓰지 못한 경우 발생
+     */
+    public void lineRead(String line) {
+        long offsetMillis = Math.max(lastOffsetMillis, (System.nanoTime() - startNanos) / 1_000_000);
+        clock.set(startMillis + offsetMillis);
+        try {
+            writer.write(offsetMillis - lastOffsetMillis, line);
+        } catch (IOException e) {
+            throw new UncheckedIOException("세션을 녹화하지 못했습니다", e);
+        }
+        lastOffsetMillis = offsetMillis;
+    }
+
+    public long getSecretSeed() {
+        return secretSeed;
+    }
+
+    public SessionClock getClock() {
+        return clock;
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
@@ -0,0 +1,165 @@
+package game.replay;
+
+import game.BaseballGame;
+import util.ConsoleRenderer;
+import util.CustomDesign;
+import util.LineReader;
+import util.OutputProfile;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * 녹화한 세션 파일을 화면 없이 재생하는 클래스입니다
+ * 저장소 없이 빈 상태에서, 녹화된 정답 시드와 녹화된 입력 시각의 시계로 BaseballGame 상태 루프 전체를 실행하므로
+ * 같은 세션 파일은 몇 번을 재생해도 같은 출력을 냅니다
+ * 기본은 최대 속도로 재생하며, 녹화된 간격대로 재생할 수도 있습니다
+ * 재생이 끝나면 입력 수, 전체 시간, 입력 하나를 처리하는 데 걸린 시간의 분포를 출력합니다
+ */
+public class SessionReplayer {
+
+    private static final String PACED_ARG = "--paced";
+    private static final String OUT_ARG_PREFIX = "--out=";
+
+    /**
+     * 명령행에서 세션을 재생합니다
+     * 인자: 세션 파일 [--paced] [--out=게임 출력 파일] [--output=ansi|plain|machine]
+     * 게임 출력 파일을 지정하지 않으면 게임 출력은 버립니다
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.out.println("usage: SessionReplayer <session file> [--paced] [--out=<game output file>] [--output=ansi|plain|machine]");
+            return;
+        }
+        SessionLog sessionLog = SessionLog.read(Paths.get(args[0]));
+        boolean paced = false;
+        Path outFile = null;
+        for (String arg : args) {
+            if (arg.equals(PACED_ARG)) paced = true;
+            if (arg.startsWith(OUT_ARG_PREFIX)) outFile = Paths.get(arg.substring(OUT_ARG_PREFIX.length()));
+        }
+
+        CustomDesign.setOutputProfile(OutputProfile.resolve(args));
+        WritableByteChannel output = outFile == null
+                ? Channels.newChannel(OutputStream.nullOutputStream())
+                : FileChannel.open(outFile, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        ConsoleRenderer.getInstance().setChannel(output);
+
+        SessionClock clock = new SessionClock(sessionLog.getZone(), sessionLog.getStartMillis());
+        ReplayChannel input = new ReplayChannel(sessionLog, clock, paced);
+        long startNanos = System.nanoTime();
+        try {
+            new BaseballGame(new LineReader(input), null, clock, sessionLog.getSecretSeed()).start();
+        } catch (NoSuchElementException e) {
+            // 녹화된 입력이 'exit' 없이 끝난 경우, 녹화 때와 같이 입력이 끝난 시점에서 재생을 마칩니다
+        } finally {
+            output.close();
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+        input.finish();
+
+        long[] latencies = input.getLatencyNanos();
+        System.out.printf("%,d inputs in %,.1f ms (%,.0f inputs/s)%n",
+                latencies.length, elapsedNanos / 1_000_000.0, latencies.length * 1_000_000_000.0 / Math.max(1, elapsedNanos));
+        if (latencies.length > 0) {
+            Arrays.sort(latencies);
+            System.out.printf("latency per input: p50 %,.1f us, p99 %,.1f us, max %,.1f us%n",
+                    percentile(latencies, 0.50) / 1000.0, percentile(latencies, 0.99) / 1000.0, latencies[latencies.length - 1] / 1000.0);
+        }
+    }
+
+    private static long percentile(long[] sorted, double ratio) {
+        int index = (int) Math.ceil(ratio * sorted.length) - 1;
+        return sorted[Math.max(0, index)];
+    }
+
+    /**
+     * 녹화된 입력을 한 번의 read에 한 줄씩 돌려주는 입력 채널입니다
+     * LineReader는 버퍼가 비었을 때만 read를 부르므로, 줄을 넘겨줄 때 시계를 그 줄의 녹화 시각으로 맞추고
+     * 다음 read가 불릴 때까지의 시간을 직전 입력의 처리 시간으로 기록합니다
+     */
+    private static final class ReplayChannel implements ReadableByteChannel {
+        private final SessionLog sessionLog;
+        private final SessionClock clock;
+        private final boolean paced;
+        private final long[] latencyNanos;
+        private final long replayStartNanos = System.nanoTime();
+
+        private int nextIndex;
+        private byte[] current;
+        private int currentPosition;
+        private long deliveredNanos;
+        private boolean isOpen = true;
+
+        ReplayChannel(SessionLog sessionLog, SessionClock clock, boolean paced) {
+            this.sessionLog = sessionLog;
+            this.clock = clock;
+            this.paced = paced;
+            this.latencyNanos = new long[sessionLog.size()];
+        }
+
+        @Override
+        public int read(ByteBuffer dst) {
+            if (current == null || currentPosition == current.length) {
+                finish();
+                if (nextIndex == sessionLog.size()) return -1;
+                if (paced) waitUntil(sessionLog.offsetMillisAt(nextIndex));
+                clock.set(sessionLog.getStartMillis() + sessionLog.offsetMillisAt(nextIndex));
+                current = (sessionLog.lineAt(nextIndex) + "\n").getBytes(StandardCharsets.UTF_8);
+                currentPosition = 0;
+                nextIndex++;
+                deliveredNanos = System.nanoTime();
+            }
+            int length = Math.min(dst.remaining(), current.length - currentPosition);
+            dst.put(current, currentPosition, length);
+            currentPosition += length;
+            return length;
+        }
+
+        /**
+         * 마지막으로 넘겨준 입력의 처리 시간을 기록합니다
+         */
+        void finish() {
+            if (deliveredNanos != 0) {
+                latencyNanos[nextIndex - 1] = System.nanoTime() - deliveredNanos;
+                deliveredNanos = 0;
+            }
+        }
+
+        long[] getLatencyNanos() {
+            return Arrays.copyOf(latencyNanos, nextIndex);
+        }
+
+        private void waitUntil(long offsetMillis) {
+            long waitNanos = replayStartNanos + offsetMillis * 1_000_000 - System.nanoTime();
+            if (waitNanos <= 0) return;
+            try {
+                Thread.sleep(waitNanos / 1_000_000, (int) (waitNanos % 1_000_000));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public boolean isOpen() {
+            return isOpen;
+        }
+
+        @Override
+        public void close() {
+            finish();
+            isOpen = false;
+        }
+    }
+}
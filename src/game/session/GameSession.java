@@ -0,0 +1,152 @@
+package game.session;
+
+import game.difficulty.DifficultyMode;
+import game.logic.BaseballGameLogic;
+import game.logic.ResultCount;
+import game.record.GameRecord;
+import user.User;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 콘솔 입출력 없이 한 판의 숫자 야구 게임을 진행하는 클래스입니다
+ * 정답 생성, 입력 채점, 게임 기록 갱신을 BaseballGameLogic과 GameRecord에 위임하며
+ * RunState와 시뮬레이터, 서버 등에서 같은 방식으로 사용할 수 있습니다
+ */
+public class GameSession {
+
+    private final BaseballGameLogic baseballGameLogic;
+    private final GameRecord gameRecord;
+    /** 완료 일자를 정하는 시계 */
+    private final Clock clock;
+    private boolean isSolved;
+
+    /**
+     * 주어진 난이도로 새 게임을 시작합니다
+     *
+     * @param difficultyMode 게임 난이도
+     */
+    public GameSession(DifficultyMode difficultyMode) {
+        this(new BaseballGameLogic(difficultyMode.getLen()), difficultyMode, Clock.systemDefaultZone());
+    }
+
+    /**
+     * 정답 생성 시드를 지정해 새 게임을 시작합니다
+     *
+     * @param difficultyMode 게임 난이도
+     * @param seed 정답 생성에 사용할 시드
+     */
+    public GameSession(DifficultyMode difficultyMode, long seed) {
+        this(new BaseballGameLogic(difficultyMode.getLen(), seed), difficultyMode, Clock.systemDefaultZone());
+    }
+
+    /**
+     * 완료 일자를 정할 시계를 지정해 새 게임을 시작합니다
+     *
+     * @param difficultyMode 게임 난이도
+     * @param clock 완료 일자를 정하는 시계
+     */
+    public GameSession(DifficultyMode difficultyMode, Clock clock) {
+        this(new BaseballGameLogic(difficultyMode.getLen()), difficultyMode, clock);
+    }
+
+    /**
+     * 정답 생성 시드와 완료 일자를 정할 시계를 지정해 새 게임을 시작합니다
+     * 같은 시드와 같은 시각의 시계로 같은 입력을 넣으면 같은 게임 기록이 남습니다
+     *
+     * @param difficultyMode 게임 난이도
+     * @param seed 정답 생성에 사용할 시드
+     * @param clock 완료 일자를 정하는 시계
+     */
+    public GameSession(DifficultyMode difficultyMode, long seed, Clock clock) {
+        this(new BaseballGameLogic(difficultyMode.getLen(), seed), difficultyMode, clock);
+    }
+
+    private GameSession(BaseballGameLogic baseballGameLogic, DifficultyMode difficultyMode, Clock clock) {
+        this.baseballGameLogic = baseballGameLogic;
+        this.gameRecord = new GameRecord(difficultyMode);
+        this.clock = clock;
+        baseballGameLogic.generateRandomNumber();
+    }
+
+    /**
+     * 입력을 채점하고 시도 횟수를 증가시킵니다
+     * 유효하지 않은 입력도 시도 횟수에 포함됩니다
+     *
+     * @param guess 사용자가 입력한 숫자 문자열
+     * @return ResultCount.pack 형식의 결과(0 이상), 입력이 유효하지 않으면 음수 오류 코드
+     * @throws IllegalStateException 이미 정답을 맞춘 게임에 입력한 경우 발생
+     */
+    public int submit(CharSequence guess) {
+        if (isSolved) {
+            throw new IllegalStateException("이미 종료된 게임입니다");
+        }
+        gameRecord.increaseAttemptCnt();
+
+        int result = baseballGameLogic.evaluate(guess);
+        if (result >= 0 && ResultCount.strikeOf(result) == baseballGameLogic.getLen()) {
+            isSolved = true;
+            gameRecord.setFinished(true);
+            gameRecord.setFinishedDate(LocalDateTime.now(clock).truncatedTo(ChronoUnit.SECONDS));
+        }
+        return result;
+    }
+
+    /**
+     * 게임을 마치고 기록을 사용자의 게임 기록에 추가합니다
+     *
+     * @param user 기록을 추가할 사용자
+     * @return 사용자의 게임 기록 중 추가된 기록의 순번
+     */
+    public int finish(User user) {
+        return user.addToGameRecordList(gameRecord);
+    }
+
+    /**
+     * 오류 코드에 해당하는 안내 문구를 반환합니다
+     *
+     * @param errorCode submit이 반환한 음수 오류 코드
+     * @return 오류 안내 문구
+     */
+    public String getErrorMessage(int errorCode) {
+        return baseballGameLogic.getErrorMessage(errorCode);
+    }
+
+    /**
+     * 마지막으로 유효했던 입력의 조합 번호를 반환합니다
+     *
+     * @return PermutationIndex 기준 조합 번호
+     */
+    public int getLastGuessRank() {
+        return baseballGameLogic.getLastGuessRank();
+    }
+
+    /**
+     * 정답을 맞췄는지 여부를 반환합니다
+     *
+     * @return 정답을 맞췄으면 true
+     */
+    public boolean isSolved() {
+        return isSolved;
+    }
+
+    /**
+     * 현재 게임의 숫자 길이를 반환합니다
+     *
+     * @return 숫자 길이
+     */
+    public int getLen() {
+        return baseballGameLogic.getLen();
+    }
+
+    /**
+     * 현재 게임의 기록을 반환합니다
+     *
+     * @return 게임 기록
+     */
+    public GameRecord getGameRecord() {
+        return gameRecord;
+    }
+}
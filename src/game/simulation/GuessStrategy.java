@@ -0,0 +1,20 @@
+package game.simulation;
+
+import game.logic.CandidateTracker;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * 자동 대국에서 다음 입력을 고르는 전략입니다
+ * 여러 스레드가 하나의 전략 인스턴스를 공유하므로 구현체는 상태를 가지지 않아야 합니다
+ */
+public interface GuessStrategy {
+    /**
+     * 남은 정답 후보를 보고 다음 입력을 고릅니다
+     *
+     * @param candidateTracker 현재 게임의 정답 후보 추적기
+     * @param random 현재 작업 전용 난수 생성기
+     * @return 다음 입력의 조합 번호
+     */
+    int nextGuess(CandidateTracker candidateTracker, RandomGenerator random);
+}
@@ -0,0 +1,25 @@
+package game.simulation;
+
+import game.difficulty.DifficultyMode;
+import game.logic.CandidateTracker;
+import game.logic.MinimaxSolver;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * MinimaxSolver가 고른 최선의 입력을 사용하는 전략입니다
+ * 점수 보정 시 도달 가능한 최소 시도 횟수 분포를 구하는 데 사용합니다
+ */
+public class MinimaxStrategy implements GuessStrategy {
+
+    private final MinimaxSolver minimaxSolver;
+
+    public MinimaxStrategy(DifficultyMode difficultyMode) {
+        this.minimaxSolver = new MinimaxSolver(difficultyMode);
+    }
+
+    @Override
+    public int nextGuess(CandidateTracker candidateTracker, RandomGenerator random) {
+        return minimaxSolver.bestGuess(candidateTracker);
+    }
+}
@@ -0,0 +1,17 @@
+package game.simulation;
+
+import game.logic.CandidateTracker;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * 지금까지의 결과와 모순되지 않는 후보 중 하나를 무작위로 고르는 전략입니다
+ * 결과를 빠짐없이 활용하는 사람 플레이어에 가까운 기준선으로 사용합니다
+ */
+public class RandomCandidateStrategy implements GuessStrategy {
+
+    @Override
+    public int nextGuess(CandidateTracker candidateTracker, RandomGenerator random) {
+        return candidateTracker.candidateAt(random.nextInt(candidateTracker.getRemainingCount()));
+    }
+}
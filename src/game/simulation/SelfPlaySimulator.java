@@ -0,0 +1,139 @@
+package game.simulation;
+
+import game.difficulty.DifficultyMode;
+import game.logic.CandidateTracker;
+import game.logic.FeedbackTable;
+import game.logic.ResultCount;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 전략끼리 자동으로 게임을 진행해 시도 횟수 분포를 구하는 시뮬레이터입니다
+ * 게임을 고정 크기 묶음으로 나눠 모든 코어에서 병렬로 진행하며,
+ * 묶음마다 시드에서 미리 분기한 난수 생성기를 사용하므로 스레드 수와 관계없이 같은 시드는 같은 결과를 냅니다
+ * RankingState의 점수 공식을 보정하기 위한 데이터를 만드는 데 사용합니다
+ */
+public class SelfPlaySimulator {
+
+    /** 한 작업이 진행하는 게임 수 */
+    private static final int GAMES_PER_TASK = 4096;
+    /** 이 횟수 안에 맞추지 못한 게임은 미해결로 따로 집계합니다 */
+    private static final int MAX_ATTEMPTS = 64;
+    /** 작업별 집계 배열에서 미해결 게임 수를 담는 칸 (시도 횟수 칸 뒤) */
+    private static final int UNSOLVED_SLOT = MAX_ATTEMPTS + 1;
+
+    private final int threadCount;
+
+    /**
+     * 사용 가능한 모든 코어를 사용하는 시뮬레이터를 생성합니다
+     */
+    public SelfPlaySimulator() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * 지정한 스레드 수를 사용하는 시뮬레이터를 생성합니다
+     *
+     * @param threadCount 게임을 진행할 스레드 수
+     */
+    public SelfPlaySimulator(int threadCount) {
+        this.threadCount = threadCount;
+    }
+
+    /**
+     * 주어진 전략으로 게임을 진행하고 시도 횟수 분포를 구합니다
+     *
+     * @param difficultyMode 게임 난이도
+     * @param strategy 입력을 고르는 전략
+     * @param gameCount 진행할 게임 수
+     * @param seed 정답과 전략의 난수에 사용할 시드
+     * @return 시뮬레이션 결과
+     */
+    public SimulationResult run(DifficultyMode difficultyMode, GuessStrategy strategy, long gameCount, long seed) {
+        // 작업별 난수 생성기는 실행 순서와 무관하도록 제출 전에 순서대로 분기합니다
+        SplittableRandom master = new SplittableRandom(seed);
+        List<Callable<long[]>> tasks = new ArrayList<>();
+        for (long start = 0; start < gameCount; start += GAMES_PER_TASK) {
+            int games = (int) Math.min(GAMES_PER_TASK, gameCount - start);
+            SplittableRandom random = master.split();
+            tasks.add(() -> play(difficultyMode, strategy, games, random));
+        }
+
+        FeedbackTable.of(difficultyMode).get(0, 0); // 결과표 준비 시간은 측정에서 제외합니다
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        long startNanos = System.nanoTime();
+        try {
+            long[] histogram = new long[UNSOLVED_SLOT + 1];
+            for (Future<long[]> future : executor.invokeAll(tasks)) {
+                long[] partial = future.get();
+                for (int i = 0; i < histogram.length; i++) {
+                    histogram[i] += partial[i];
+                }
+            }
+            return new SimulationResult(difficultyMode, Arrays.copyOf(histogram, MAX_ATTEMPTS + 1),
+                    histogram[UNSOLVED_SLOT], System.nanoTime() - startNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("시뮬레이션이 중단되었습니다", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("시뮬레이션 중 오류가 발생했습니다", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 한 작업 분량의 게임을 진행합니다
+     *
+     * @return [n] = n번 만에 맞춘 게임 수, [UNSOLVED_SLOT] = 맞추지 못한 게임 수
+     */
+    private static long[] play(DifficultyMode difficultyMode, GuessStrategy strategy, int games, SplittableRandom random) {
+        FeedbackTable feedbackTable = FeedbackTable.of(difficultyMode);
+        CandidateTracker candidateTracker = new CandidateTracker(difficultyMode);
+        int solved = ResultCount.pack(difficultyMode.getLen(), 0);
+        long[] histogram = new long[UNSOLVED_SLOT + 1];
+
+        for (int game = 0; game < games; game++) {
+            candidateTracker.reset();
+            int secretRank = random.nextInt(feedbackTable.size());
+            int solvedAt = UNSOLVED_SLOT;
+            for (int attempts = 1; attempts <= MAX_ATTEMPTS; attempts++) {
+                int guessRank = strategy.nextGuess(candidateTracker, random);
+                int result = feedbackTable.get(guessRank, secretRank);
+                if (result == solved) {
+                    solvedAt = attempts;
+                    break;
+                }
+                candidateTracker.update(guessRank, result);
+            }
+            histogram[solvedAt]++;
+        }
+        return histogram;
+    }
+
+    /**
+     * 명령행에서 시뮬레이션을 실행합니다
+     * 인자: [게임 수] [시드] [전략: random | minimax]
+     */
+    public static void main(String[] args) {
+        long gameCount = args.length > 0 ? Long.parseLong(args[0]) : 1_000_000L;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 42L;
+        String strategyName = args.length > 2 ? args[2] : "random";
+
+        SelfPlaySimulator simulator = new SelfPlaySimulator();
+        for (DifficultyMode difficultyMode : DifficultyMode.values()) {
+            GuessStrategy strategy = strategyName.equals("minimax")
+                    ? new MinimaxStrategy(difficultyMode)
+                    : new RandomCandidateStrategy();
+            System.out.print(simulator.run(difficultyMode, strategy, gameCount, seed));
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package game.simulation;
+
+import game.difficulty.DifficultyMode;
+
+/**
+ * 자동 대국 결과를 담는 클래스입니다
+ * 시도 횟수별 게임 수 분포와 처리 속도를 제공합니다
+ * 최대 시도 횟수 안에 맞추지 못한 게임은 분포에 넣지 않고 미해결 게임 수로 따로 제공합니다
+ */
+public class SimulationResult {
+
+    private final DifficultyMode difficultyMode;
+    private final long[] attemptHistogram; // attemptHistogram[n] = n번 만에 맞춘 게임 수
+    private final long unsolvedCount; // 최대 시도 횟수 안에 맞추지 못한 게임 수
+    private final long elapsedNanos;
+
+    public SimulationResult(DifficultyMode difficultyMode, long[] attemptHistogram, long unsolvedCount, long elapsedNanos) {
+        this.difficultyMode = difficultyMode;
+        this.attemptHistogram = attemptHistogram;
+        this.unsolvedCount = unsolvedCount;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public DifficultyMode getDifficultyMode() {
+        return difficultyMode;
+    }
+
+    /**
+     * 맞춘 게임의 시도 횟수별 게임 수를 반환합니다
+     * 마지막 칸은 최대 시도 횟수째에 맞춘 게임 수이며, 맞추지 못한 게임은 포함하지 않습니다
+     *
+     * @return 시도 횟수를 인덱스로 하는 게임 수 배열
+     */
+    public long[] getAttemptHistogram() {
+        return attemptHistogram;
+    }
+
+    /**
+     * 최대 시도 횟수 안에 맞추지 못한 게임 수를 반환합니다
+     *
+     * @return 미해결 게임 수
+     */
+    public long getUnsolvedCount() {
+        return unsolvedCount;
+    }
+
+    /**
+     * 맞춘 게임 수를 반환합니다
+     *
+     * @return 맞춘 게임 수
+     */
+    public long getSolvedCount() {
+        long total = 0;
+        for (long count : attemptHistogram) {
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * 진행한 전체 게임 수를 반환합니다 (맞추지 못한 게임 포함)
+     *
+     * @return 전체 게임 수
+     */
+    public long getGameCount() {
+        return getSolvedCount() + unsolvedCount;
+    }
+
+    /**
+     * 맞춘 게임의 게임당 평균 시도 횟수를 반환합니다
+     *
+     * @return 평균 시도 횟수, 맞춘 게임이 없으면 NaN
+     */
+    public double getAverageAttempts() {
+        long weighted = 0;
+        for (int attempts = 0; attempts < attemptHistogram.length; attempts++) {
+            weighted += attempts * attemptHistogram[attempts];
+        }
+        return (double) weighted / getSolvedCount();
+    }
+
+    /**
+     * 초당 처리한 게임 수를 반환합니다
+     *
+     * @return 초당 게임 수
+     */
+    public double getGamesPerSecond() {
+        return getGameCount() * 1_000_000_000.0 / Math.max(1, elapsedNanos);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("[%s] %,d games, %,d unsolved, %.3f attempts/solved game, %,.0f games/sec%n",
+                difficultyMode, getGameCount(), unsolvedCount, getAverageAttempts(), getGamesPerSecond()));
+        for (int attempts = 1; attempts < attemptHistogram.length; attempts++) {
+            if (attemptHistogram[attempts] == 0) continue;
+            sb.append(String.format("  %3d회: %,d%n", attempts, attemptHistogram[attempts]));
+        }
+        if (unsolvedCount > 0) {
+            sb.append(String.format("  미해결: %,d%n", unsolvedCount));
+        }
+        return sb.toString();
+    }
+}
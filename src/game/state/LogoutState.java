@@ -2,8 +2,7 @@ package game.state;
 
 import game.BaseballGame;
 import util.CustomDesign;
-
-import java.util.Scanner;
+import util.LineReader;
 
 /**
  * 사용자 로그아웃 상태를 관리하는 클래스입니다
@@ -26,15 +25,14 @@ public class LogoutState implements GameState{
      * 현재 사용자를 null로 설정하고, 로그아웃 메시지를 출력한 후 게임을 시작 상태로 전환합니다
      *
      * @param baseballGame 현재 진행 중인 야구 게임 인스턴스
-     * @param sc 사용자 입력을 받기 위한 Scanner 객체 (여기서는 사용되지 않음)
+     * @param reader 사용자 입력을 한 줄씩 읽는 LineReader 객체 (여기서는 사용되지 않음)
      */
     @Override
-    public void handle(BaseballGame baseballGame,  Scanner sc) {
+    public void handle(BaseballGame baseballGame,  LineReader reader) {
 
         baseballGame.setCurrentUser(null);
 
         CustomDesign.printLogoutMessage();
-        System.out.println("메인 화면으로 돌아갑니다");
         baseballGame.nextStep(StartState.getInstance());
     }
 }
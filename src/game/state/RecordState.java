@@ -5,9 +5,9 @@ import game.record.GameRecord;
 import game.state.menu.MenuState;
 import user.User;
 import util.CustomDesign;
+import util.LineReader;
 
 import java.util.List;
-import java.util.Scanner;
 
 /**
  * 게임 기록을 표시하는 상태를 관리하는 클래스입니다
@@ -34,16 +34,15 @@ public class RecordState implements GameState{
      * 현재 사용자의 게임 기록을 표시하고, 사용자가 Enter 키를 누르면 메뉴 상태(MenuState)로 돌아갑니다
      *
      * @param baseballGame 현재 진행 중인 야구 게임 인스턴스
-     * @param sc 사용자 입력을 받기 위한 Scanner 객체
+     * @param reader 사용자 입력을 한 줄씩 읽는 LineReader 객체
      */
     @Override
-    public void handle(BaseballGame baseballGame, Scanner sc) {
+    public void handle(BaseballGame baseballGame, LineReader reader) {
         User user = baseballGame.getCurrentUser();
         List<GameRecord> records = user.getGameRecordList();
 
         CustomDesign.printUserRecords(user, records);
-        System.out.println(CustomDesign.ANSI_CYAN +  "Enter 키를 누르면 메뉴로 돌아갑니다..." + CustomDesign.ANSI_RESET);
-        sc.nextLine();
+        reader.nextLine();
 
         //다시 메뉴 옵션 출력
         baseballGame.nextStep(MenuState.getInstance());
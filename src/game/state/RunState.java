@@ -1,27 +1,26 @@
 package game.state;
 
 import ex.GameInitializationException;
-import ex.InvalidInputException;
 import game.BaseballGame;
-import game.record.GameRecord;
 import game.difficulty.DifficultyMode;
-import game.logic.BaseballGameLogic;
+import game.logic.CandidateTracker;
+import game.logic.ResultCount;
+import game.session.GameSession;
 import game.state.menu.MenuState;
+import game.state.ranking.LeaderboardManager;
 import user.User;
 import util.CustomDesign;
+import util.LineReader;
 
-import java.time.LocalDateTime;
 import java.util.NoSuchElementException;
-import java.util.Scanner;
 
 /**
  * 숫자 야구 게임의 실행 상태를 관리하는 클래스입니다
- * NumberBaseballLogic을 사용해 게임의 실제 플레이 로직을 처리합니다
+ * GameSession을 사용해 게임의 실제 플레이 로직을 처리하고, 콘솔 입출력만 담당합니다
  */
 public class RunState implements GameState {
 
-    private final BaseballGameLogic baseballGameLogic;
-    private static final String INPUT_PROMPT = " 자리 수를 입력해주세요: ";
+    private final DifficultyMode difficultyMode;
 
     /**
      * RunState의 생성자입니다
@@ -29,7 +28,7 @@ public class RunState implements GameState {
      * @param difficultyMode 게임의 난이도 모드
      */
     public RunState(DifficultyMode difficultyMode){
-        this.baseballGameLogic = new BaseballGameLogic(difficultyMode.getLen());
+        this.difficultyMode = difficultyMode;
     }
 
     /**
@@ -37,48 +36,47 @@ public class RunState implements GameState {
      * 게임을 초기화, 플레이, 종료 과정을 관리합니다
      *
      * @param baseballGame 숫자 야구 게임 객체
-     * @param sc Scanner 객체
+     * @param reader 사용자 입력을 한 줄씩 읽는 LineReader 객체
      */
     @Override
-    public void handle(BaseballGame baseballGame, Scanner sc) {
-        User currentUser = baseballGame.getCurrentUser();
-        GameRecord gameRecord = null;
+    public void handle(BaseballGame baseballGame, LineReader reader) {
+        GameSession gameSession = null;
         boolean isGameInitialized = false;
         try {
-            gameRecord = initialize(currentUser);
+            gameSession = initialize(baseballGame);
             isGameInitialized = true;
-            playGame(sc, gameRecord);
+            playGame(reader, gameSession);
         }catch(GameInitializationException e){
             CustomDesign.printExceptionMessage(e.getMessage());
         }finally {
-            if(isGameInitialized)  finishGame(baseballGame, baseballGame.getCurrentUser(), gameRecord);
+            if(isGameInitialized)  finishGame(baseballGame, baseballGame.getCurrentUser(), gameSession);
             else baseballGame.nextStep(MenuState.getInstance());
         }
     }
 
     /**
      * 실제 게임 플레이를 처리합니다
-     * 사용자 입력을 받고 정답을 맞출 때까지 반복합니다
+     * 사용자 입력을 받고 정답을 맞출 때까지 반복하며, 매 라운드 남은 정답 후보 수를 함께 보여줍니다
      *
-     * @param sc Scanner 객체
-     * @param gameRecord 현재 게임의 기록 객체
+     * @param reader 사용자 입력을 한 줄씩 읽는 LineReader 객체
+     * @param gameSession 현재 게임 세션
      */
-    private void playGame(Scanner sc, GameRecord gameRecord){
-        while(true){
+    private void playGame(LineReader reader, GameSession gameSession){
+        CandidateTracker candidateTracker = new CandidateTracker(difficultyMode);
+        while(!gameSession.isSolved()){
+            CustomDesign.printInputPrompt(gameSession.getLen());
+            String input = reader.nextLine();
+
+            int result = gameSession.submit(input);
             //입력 실패하면 재시작
-            gameRecord.increaseAttemptCnt();
-            try {
-                if (!processUserInput(sc)) {
-                    continue;
-                }
-            }catch(InvalidInputException e){
-                CustomDesign.printExceptionMessage(e.getMessage());
+            if (result < 0) {
+                CustomDesign.printExceptionMessage(gameSession.getErrorMessage(result));
                 continue;
             }
-            //성공하면 반복문 종료
-            gameRecord.setFinished(true);
-            gameRecord.setFinishedDate(LocalDateTime.now());
-            break;
+            ResultCount.printResult(result, gameSession.getLen());
+            if (!gameSession.isSolved()) {
+                CustomDesign.printRemainingCandidates(candidateTracker.update(gameSession.getLastGuessRank(), result));
+            }
         }
     }
 
@@ -87,44 +85,31 @@ public class RunState implements GameState {
      *
      * @param baseballGame 숫자 야구 게임 객체
      * @param user 현재 사용자
-     * @param gameRecord 완료된 게임의 기록 객체
+     * @param gameSession 완료된 게임 세션
      */
-    private void finishGame(BaseballGame baseballGame,  User user, GameRecord gameRecord){
-        user.addToGameRecordList(gameRecord);
+    private void finishGame(BaseballGame baseballGame,  User user, GameSession gameSession){
+        int recordIndex = gameSession.finish(user);
+        baseballGame.saveRecord(user, gameSession.getGameRecord(), recordIndex);
+        LeaderboardManager.getInstance().recordAdded(user, gameSession.getGameRecord(), recordIndex);
         //다시 메뉴로 전환
         baseballGame.nextStep(MenuState.getInstance());
     }
 
     /**
-     * 새로운 GameRecord 객체를 생성하고 랜덤 숫자를 생성합니다
+     * 새로운 게임 세션을 생성하고 랜덤 숫자를 생성합니다
      *
-     * @param user 현재 사용자
-     * @return 초기화된 GameRecord 객체, 초기화 실패시 null
+     * @param baseballGame 숫자 야구 게임 객체
+     * @return 초기화된 GameSession 객체
      * @throws GameInitializationException 게임 중 초기화 관련 오류 발생 시 throw
      */
-    private GameRecord initialize(User user) throws GameInitializationException{
+    private GameSession initialize(BaseballGame baseballGame) throws GameInitializationException{
         try {
-            GameRecord gameRecord = new GameRecord(user.getGameNumber(), baseballGameLogic.getMode());
-            baseballGameLogic.generateRandomNumber();
-            return gameRecord;
+            GameSession gameSession = baseballGame.newGameSession(difficultyMode);
+            CustomDesign.printGameReady();
+            return gameSession;
         }catch(NoSuchElementException e){
             throw new GameInitializationException("게임 레코드 초기화 중 오류가 발생했습니다: "+e.getMessage(), e);
         }
     }
 
-
-    /**
-     * 사용자 입력을 처리하고 검증합니다
-     *
-     * @param sc Scanner 객체
-     * @return 정답을 맞췄으면 true, 그렇지 않으면 false
-     */
-    private boolean processUserInput(Scanner sc){
-        System.out.print(CustomDesign.ANSI_PINK + baseballGameLogic.getLen() + INPUT_PROMPT + CustomDesign.ANSI_RESET);
-        String input = sc.nextLine();
-        if(input.isEmpty())
-            throw new InvalidInputException("숫자를 입력해주세요");
-        return baseballGameLogic.validateAnswer(input);
-    }
-
 }
@@ -5,10 +5,10 @@ import game.state.menu.MenuState;
 import user.User;
 import user.UserManager;
 import util.CustomDesign;
+import util.LineReader;
 
 import javax.print.attribute.standard.OutputDeviceAssigned;
 import java.util.Optional;
-import java.util.Scanner;
 
 /**
  * 숫자 야구 게임의 시작 상태를 관리하는 클래스입니다
@@ -18,6 +18,9 @@ public class StartState implements GameState{
 
     public static StartState startState;
 
+    /** 닉네임의 최대 글자 수 (저장소에 쓸 수 있는 길이보다 충분히 짧게 제한합니다) */
+    private static final int MAX_USERNAME_LENGTH = 50;
+
     private StartState(){
     }
 
@@ -38,13 +41,13 @@ public class StartState implements GameState{
      * 환영 메시지를 표시하고, 사용자 입력을 처리한 후 적절한 다음 상태로 전환합니다
      *
      * @param baseballGame 야구 숫자 게임 객체
-     * @param sc Scanner 객체
+     * @param reader 사용자 입력을 한 줄씩 읽는 LineReader 객체
      */
-    public void handle(BaseballGame baseballGame,  Scanner sc) {
+    public void handle(BaseballGame baseballGame,  LineReader reader) {
 
         CustomDesign.printStartMessage();
 
-        String username = processUserInput(baseballGame, sc);
+        String username = processUserInput(baseballGame, reader);
         if (username != null) {
             User currentUser = login(baseballGame, username);
             CustomDesign.printUserWelcomeMessage(currentUser);
@@ -54,19 +57,19 @@ public class StartState implements GameState{
 
     /**
      * 사용자 입력을 처리합니다
-     * 사용자가 닉네임을 입력하거나 'exit'를 입력할 때까지 반복합니다
+     * 사용자가 MAX_USERNAME_LENGTH자 이하의 닉네임을 입력하거나 'exit'를 입력할 때까지 반복합니다
      *
      * @param baseballGame 야구 숫자 게임 객체
-     * @param sc Scanner 객체
+     * @param reader 사용자 입력을 한 줄씩 읽는 LineReader 객체
      * @return 입력된 사용자 닉네임, 또는 'exit' 입력 시 null
      */
-    private String processUserInput(BaseballGame baseballGame, Scanner sc){
+    private String processUserInput(BaseballGame baseballGame, LineReader reader){
         while (true) {
-            String input = sc.nextLine().trim();
+            String input = reader.nextLine().trim();
 
             if (input.isEmpty()) {
                 CustomDesign.printExceptionMessage("닉네임 또는 'exit'을 입력해주세요.");
-                System.out.print(CustomDesign.ANSI_GREEN + "✏️  다시 입력: " + CustomDesign.ANSI_RESET);
+                CustomDesign.printRetryPrompt();
                 continue;
             }
 
@@ -75,6 +78,12 @@ public class StartState implements GameState{
                 return null;
             }
 
+            if (input.length() > MAX_USERNAME_LENGTH) {
+                CustomDesign.printExceptionMessage("닉네임은 " + MAX_USERNAME_LENGTH + "자 이하로 입력해주세요.");
+                CustomDesign.printRetryPrompt();
+                continue;
+            }
+
             return input;
         }
     }
@@ -89,14 +98,8 @@ public class StartState implements GameState{
      */
     private User login(BaseballGame baseballGame, String username){
         UserManager userManager = baseballGame.getUserManager();
-        User currentUser = userManager.findByUsername(username)
-                .orElseGet(
-                        () -> {
-                            User newUser = new User(username);
-                            userManager.addUser(newUser);
-                            return newUser;
-                        }
-                );
+        User currentUser = userManager.findOrCreate(username);
+        baseballGame.saveLogin(currentUser);
         baseballGame.setCurrentUser(currentUser);
         return currentUser;
     }
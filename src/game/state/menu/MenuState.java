@@ -6,10 +6,10 @@ import game.state.*;
 import game.difficulty.DifficultyMode;
 import game.state.ranking.RankingState;
 import util.CustomDesign;
+import util.LineReader;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Scanner;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 /**
@@ -18,7 +18,7 @@ import java.util.function.Function;
  */
 public class MenuState implements GameState {
     private static MenuState menuState;
-    private final Map<Integer, BiConsumer<BaseballGame, Scanner>> optionStates;
+    private final Map<Integer, BiConsumer<BaseballGame, LineReader>> optionStates;
     private MenuStatus currentStatus;
 
     private static final int MIN_OPTION = 1;
@@ -35,9 +35,9 @@ public class MenuState implements GameState {
     private MenuState(){
         this.optionStates = new HashMap<>();
         optionStates.put(1, this::validateDifficultyModeInput);
-        optionStates.put(2, (game, sc) -> game.nextStep(RecordState.getInstance()));
-        optionStates.put(3, (game, sc) -> game.nextStep(RankingState.getInstance()));
-        optionStates.put(4, (game, sc) -> game.nextStep(LogoutState.getInstance()));
+        optionStates.put(2, (game, reader) -> game.nextStep(RecordState.getInstance()));
+        optionStates.put(3, (game, reader) -> game.nextStep(RankingState.getInstance()));
+        optionStates.put(4, (game, reader) -> game.nextStep(LogoutState.getInstance()));
         currentStatus = MenuStatus.MAIN_MENU;
     }
     public static synchronized MenuState getInstance(){
@@ -53,11 +53,11 @@ public class MenuState implements GameState {
      *
      * @param baseballGame 현재의 야구 게임 인스턴스
      */
-    public void handle(BaseballGame baseballGame, Scanner sc){
+    public void handle(BaseballGame baseballGame, LineReader reader){
         resetToMainMenu();
-        int option = validateMainMenuInput(sc);
+        int option = validateMainMenuInput(reader);
         optionStates.getOrDefault(option, (game, s) -> CustomDesign.printExceptionMessage("유효한 옵션 번호를 입력해주세요"))
-                        .accept(baseballGame, sc);
+                        .accept(baseballGame, reader);
     }
 
     /**
@@ -85,16 +85,16 @@ public class MenuState implements GameState {
     /**
      * 메인 메뉴 입력을 검증합니다
      *
-     * @param sc 사용자 입력을 받기 위한 Scanner 객체
+     * @param reader 사용자 입력을 한 줄씩 읽는 LineReader 객체
      * @return 유효한 메인 메뉴 옵션 번호
      */
-    private int validateMainMenuInput(Scanner sc){
+    private int validateMainMenuInput(LineReader reader){
         return validateInput(
                 option -> {
                     if (option < MIN_OPTION || option > MAX_OPTION) throw new InvalidInputException("유효한 옵션 번호를 입력해주세요");
                     return option;
                 }
-                ,sc
+                ,reader
         );
     }
 
@@ -102,12 +102,12 @@ public class MenuState implements GameState {
      * 난이도 모드 입력을 검증하고 게임 상태를 변경합니다
      *
      * @param baseballGame 현재의 야구 게임 인스턴스
-     * @param sc 사용자 입력을 받기 위한 Scanner 객체
+     * @param reader 사용자 입력을 한 줄씩 읽는 LineReader 객체
      */
-    private void validateDifficultyModeInput(BaseballGame baseballGame, Scanner sc){
+    private void validateDifficultyModeInput(BaseballGame baseballGame, LineReader reader){
         currentStatus = MenuStatus.DIFFICULTY_SELECTION;
 
-        DifficultyMode difficultyMode = validateInput(DifficultyMode::findByOption, sc);
+        DifficultyMode difficultyMode = validateInput(DifficultyMode::findByOption, reader);
 
         baseballGame.nextStep(new RunState(difficultyMode));
     }
@@ -119,13 +119,13 @@ public class MenuState implements GameState {
      *
      * @param <T> 반환될 값의 타입
      * @param validator 입력을 검증하고 변환하는 함수
-     * @param sc 사용자 입력을 받기 위한 Scanner 객체
+     * @param reader 사용자 입력을 한 줄씩 읽는 LineReader 객체
      * @return 검증된 입력 값
      */
-    private <T> T validateInput(Function<Integer, T> validator, Scanner sc){
+    private <T> T validateInput(Function<Integer, T> validator, LineReader reader){
         while(true){
             printAvailableMenuOptions();
-            String input = sc.nextLine().trim();
+            String input = reader.nextLine().trim();
 
             if (input.isEmpty()) {
                 CustomDesign.printExceptionMessage("값을 입력해주세요");
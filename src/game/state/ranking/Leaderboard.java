@@ -0,0 +1,298 @@
+package game.state.ranking;
+
+import game.record.GameRecord;
+import user.User;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SplittableRandom;
+
+/**
+ * 사용자별 최고 기록을 순위대로 유지하는 랭킹 보드입니다
+ * 게임 기록이 추가될 때마다 해당 사용자의 항목만 skip list에서 빼고 다시 넣으므로 O(log n)에 갱신되며,
+ * 랭킹 화면은 앞에서부터 읽기만 합니다
+ * 각 링크가 건너뛰는 노드 수(span)를 함께 유지해 n번째 항목 찾기와 사용자 순위 계산도 O(log n)에 처리합니다
+ * 순서는 점수 내림차순, 시도 횟수 오름차순, 완료 일자 오름차순, 가입 순서 오름차순으로
+ * RankingState.getUserRankingList의 정렬 결과와 같으며, 앞의 세 기준은 RankingKey 하나로 비교합니다
+ * 난이도와 기간별 보드는 LeaderboardManager가 만들고 갱신합니다
+ */
+public final class Leaderboard {
+
+    private static final int MAX_LEVEL = 32;
+
+    private final Node head = new Node(null, null, MAX_LEVEL);
+    private final Map<User, Node> nodes = new IdentityHashMap<>();
+    private final SplittableRandom random = new SplittableRandom();
+    private int level = 1;
+
+    Leaderboard() {
+        clear();
+    }
+
+    /**
+     * 사용자에게 추가된 게임 기록을 반영합니다
+     * 완료된 기록이 사용자의 기존 최고 점수보다 높을 때만 순위가 바뀌며,
+     * 점수가 같으면 먼저 추가된 기록을 유지합니다
+     *
+     * @param user 기록을 추가한 사용자 (UserManager에 등록된 사용자)
+     * @param gameRecord 추가된 완료 기록
+     * @param score 기록의 점수
+     */
+    synchronized void recordAdded(User user, GameRecord gameRecord, int score) {
+        Node current = nodes.get(user);
+        if (current != null && score <= current.ranking.getScore()) return;
+        put(user, gameRecord, score);
+    }
+
+    /**
+     * 가입 순서대로 나열한 사용자별 최고 기록으로 랭킹 보드를 한 번에 채웁니다
+     * 정렬 키를 기수 정렬한 뒤 순서대로 각 층의 끝에 이어 붙이므로 비교 없이 O(n)에 만들어집니다
+     *
+     * @param users 사용자 목록 (가입 순서)
+     * @param rankings users와 같은 위치의 최고 기록
+     */
+    synchronized void load(List<User> users, List<UserRanking> rankings) {
+        clear();
+        int count = users.size();
+        long[] keys = new long[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = rankings.get(i).getSortKey();
+        }
+        int[] order = RankingKey.sortedOrder(keys, count);
+
+        Node[] last = new Node[MAX_LEVEL];
+        int[] lastPosition = new int[MAX_LEVEL];
+        Arrays.fill(last, head);
+        for (int rank = 1; rank <= count; rank++) {
+            int index = order[rank - 1];
+            Node node = new Node(rankings.get(index), users.get(index), randomLevel());
+            for (int i = 0; i < node.next.length; i++) {
+                last[i].next[i] = node;
+                last[i].span[i] = rank - lastPosition[i];
+                last[i] = node;
+                lastPosition[i] = rank;
+            }
+            level = Math.max(level, node.next.length);
+            nodes.put(node.user, node);
+        }
+        for (int i = 0; i < level; i++) {
+            last[i].span[i] = count + 1 - lastPosition[i];
+        }
+    }
+
+    /**
+     * 사용자의 항목을 주어진 기록으로 바꿉니다
+     *
+     * @param user 사용자 (UserManager에 등록된 사용자)
+     * @param gameRecord 사용자의 최고 기록
+     * @param score 기록의 점수
+     */
+    synchronized void put(User user, GameRecord gameRecord, int score) {
+        remove(user);
+        UserRanking userRanking = new UserRanking(user, score, gameRecord.getDifficultyMode(), gameRecord.getAttemptCnt(), gameRecord.getFinishedDate());
+        Node node = new Node(userRanking, user, randomLevel());
+        insert(node);
+        nodes.put(user, node);
+    }
+
+    /**
+     * 사용자의 항목을 랭킹 보드에서 뺍니다
+     *
+     * @param user 사용자
+     */
+    synchronized void remove(User user) {
+        Node current = nodes.remove(user);
+        if (current != null) unlink(current);
+    }
+
+    /**
+     * 랭킹 보드의 모든 항목을 삭제합니다
+     */
+    synchronized void clear() {
+        nodes.clear();
+        for (int i = 0; i < MAX_LEVEL; i++) {
+            head.next[i] = null;
+            head.span[i] = 1;
+        }
+        level = 1;
+    }
+
+    /**
+     * 순위대로 정렬된 전체 랭킹 리스트를 반환합니다
+     *
+     * @return UserRanking 객체 리스트
+     */
+    public synchronized List<UserRanking> getRankingList() {
+        return getPage(0, nodes.size());
+    }
+
+    /**
+     * 상위 k명의 랭킹 리스트를 반환합니다
+     *
+     * @param k 가져올 사용자 수
+     * @return 1위부터 최대 k명의 UserRanking 객체 리스트
+     */
+    public List<UserRanking> getTop(int k) {
+        return getPage(0, k);
+    }
+
+    /**
+     * 순위 구간 하나를 반환합니다
+     * 시작 항목까지는 span을 따라 O(log n)에 이동하고, 이후 limit개만 읽습니다
+     *
+     * @param offset 건너뛸 사용자 수 (0이면 1위부터)
+     * @param limit 가져올 최대 사용자 수
+     * @return 순위 (offset + 1)부터의 UserRanking 객체 리스트
+     */
+    public synchronized List<UserRanking> getPage(int offset, int limit) {
+        int count = Math.max(0, Math.min(limit, nodes.size() - offset));
+        List<UserRanking> page = new ArrayList<>(count);
+        if (count == 0) return page;
+
+        Node x = head;
+        int position = 0;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && position + x.span[i] <= offset + 1) {
+                position += x.span[i];
+                x = x.next[i];
+            }
+        }
+        for (; page.size() < count; x = x.next[0]) {
+            page.add(x.ranking);
+        }
+        return page;
+    }
+
+    /**
+     * 사용자의 현재 순위를 반환합니다
+     *
+     * @param user 순위를 찾을 사용자
+     * @return 1부터 시작하는 순위, 완료한 게임이 없으면 -1
+     */
+    public synchronized int rankOf(User user) {
+        Node node = nodes.get(user);
+        if (node == null) return -1;
+        Node x = head;
+        int position = 0;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && compare(x.next[i], node) <= 0) {
+                position += x.span[i];
+                x = x.next[i];
+            }
+        }
+        return position;
+    }
+
+    /**
+     * 사용자의 랭킹 항목을 반환합니다
+     *
+     * @param user 찾을 사용자
+     * @return 사용자의 최고 기록을 담은 UserRanking, 완료한 게임이 없으면 빈 Optional
+     */
+    public synchronized Optional<UserRanking> findByUser(User user) {
+        Node node = nodes.get(user);
+        return node == null ? Optional.empty() : Optional.of(node.ranking);
+    }
+
+    /**
+     * 랭킹 보드에 오른 사용자 수를 반환합니다
+     *
+     * @return 사용자 수
+     */
+    public synchronized int size() {
+        return nodes.size();
+    }
+
+    /**
+     * span[i]는 next[i]까지 이동하면 지나가는 순위 수이며, 다음 노드가 없으면 남은 노드 수 + 1입니다
+     * head에서 시작해 span을 더하면 도착한 노드의 순위가 됩니다
+     */
+    private void insert(Node node) {
+        Node[] update = new Node[MAX_LEVEL];
+        int[] positions = new int[MAX_LEVEL];
+        findPredecessors(node, update, positions);
+        int height = node.next.length;
+        if (height > level) {
+            for (int i = level; i < height; i++) {
+                update[i] = head;
+                positions[i] = 0;
+                head.span[i] = nodes.size() + 1;
+            }
+            level = height;
+        }
+        for (int i = 0; i < height; i++) {
+            node.next[i] = update[i].next[i];
+            update[i].next[i] = node;
+            // 새 노드 앞까지의 거리를 빼고 남은 거리를 새 노드가 가져갑니다
+            node.span[i] = update[i].span[i] - (positions[0] - positions[i]);
+            update[i].span[i] = positions[0] - positions[i] + 1;
+        }
+        for (int i = height; i < level; i++) {
+            update[i].span[i]++;
+        }
+    }
+
+    private void unlink(Node node) {
+        Node[] update = new Node[MAX_LEVEL];
+        findPredecessors(node, update, new int[MAX_LEVEL]);
+        for (int i = 0; i < level; i++) {
+            if (update[i].next[i] == node) {
+                update[i].span[i] += node.span[i] - 1;
+                update[i].next[i] = node.next[i];
+            } else {
+                update[i].span[i]--;
+            }
+        }
+        while (level > 1 && head.next[level - 1] == null) {
+            level--;
+        }
+    }
+
+    /**
+     * 각 층에서 node보다 앞서는 마지막 노드와 그 노드의 순위를 찾습니다
+     */
+    private void findPredecessors(Node node, Node[] update, int[] positions) {
+        Node x = head;
+        int position = 0;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && compare(x.next[i], node) < 0) {
+                position += x.span[i];
+                x = x.next[i];
+            }
+            update[i] = x;
+            positions[i] = position;
+        }
+    }
+
+    private int randomLevel() {
+        int lvl = 1;
+        while (lvl < MAX_LEVEL && random.nextBoolean()) {
+            lvl++;
+        }
+        return lvl;
+    }
+
+    private static int compare(Node a, Node b) {
+        int c = Long.compareUnsigned(a.ranking.getSortKey(), b.ranking.getSortKey());
+        if (c != 0) return c;
+        return Integer.compare(a.user.getRegistrationOrder(), b.user.getRegistrationOrder());
+    }
+
+    private static final class Node {
+        final UserRanking ranking;
+        final User user;
+        final Node[] next;
+        final int[] span;
+
+        Node(UserRanking ranking, User user, int level) {
+            this.ranking = ranking;
+            this.user = user;
+            this.next = new Node[level];
+            this.span = new int[level];
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package game.state.ranking;
+
+import game.difficulty.DifficultyMode;
+import game.record.GameRecord;
+import user.User;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 난이도별, 기간별 랭킹 보드를 관리하는 클래스입니다
+ * 전체 난이도와 각 난이도마다 RankingWindow 수만큼 보드를 두고, 완료된 기록이 추가되면 해당하는 보드만 갱신합니다
+ * 기간 보드를 위해 완료 일자별 버킷에 사용자별 그날의 최고 기록을 모아 두며,
+ * 날짜가 바뀌면 기간에서 빠진 버킷의 사용자만 남은 버킷으로 다시 계산합니다
+ * 각 보드의 순서는 해당 기간, 해당 난이도의 기록만으로 계산한 RankingState.getUserRankingList의 결과와 같습니다
+ */
+public final class LeaderboardManager {
+
+    private static final RankingWindow[] WINDOWS = RankingWindow.values();
+    /** 가장 긴 기간 보드의 날짜 수, 이보다 오래된 버킷은 버립니다 */
+    private static final int MAX_WINDOW_DAYS = 7;
+    /** 0번은 전체 난이도, 이후는 DifficultyMode 순서 */
+    private static final int SCOPE_COUNT = DifficultyMode.values().length + 1;
+
+    private static LeaderboardManager leaderboardManager;
+
+    private final Leaderboard[][] boards = new Leaderboard[SCOPE_COUNT][WINDOWS.length];
+    /** 범위별 완료 일자(epoch day) 버킷: 사용자별 그날의 최고 기록 */
+    private final List<NavigableMap<Long, Map<User, DayBest>>> dayBuckets = new ArrayList<>(SCOPE_COUNT);
+    private Clock clock = Clock.systemDefaultZone();
+    private long today;
+
+    private LeaderboardManager() {
+        for (int scope = 0; scope < SCOPE_COUNT; scope++) {
+            dayBuckets.add(new TreeMap<>());
+            for (int w = 0; w < WINDOWS.length; w++) {
+                boards[scope][w] = new Leaderboard();
+            }
+        }
+        today = LocalDate.now(clock).toEpochDay();
+    }
+
+    public static synchronized LeaderboardManager getInstance() {
+        if (leaderboardManager == null) {
+            leaderboardManager = new LeaderboardManager();
+        }
+        return leaderboardManager;
+    }
+
+    /**
+     * 전체 난이도의 랭킹 보드를 반환합니다
+     *
+     * @param window 랭킹 기간
+     * @return 랭킹 보드
+     */
+    public Leaderboard getBoard(RankingWindow window) {
+        return getBoard(0, window);
+    }
+
+    /**
+     * 한 난이도의 랭킹 보드를 반환합니다
+     *
+     * @param difficultyMode 게임 난이도
+     * @param window 랭킹 기간
+     * @return 랭킹 보드
+     */
+    public Leaderboard getBoard(DifficultyMode difficultyMode, RankingWindow window) {
+        return getBoard(difficultyMode.ordinal() + 1, window);
+    }
+
+    private synchronized Leaderboard getBoard(int scope, RankingWindow window) {
+        advance();
+        return boards[scope][window.ordinal()];
+    }
+
+    /**
+     * 사용자에게 추가된 게임 기록을 반영합니다
+     * 완료된 기록만 반영하며, 같은 점수의 기록이 여러 개면 순번이 빠른 기록을 사용합니다
+     *
+     * @param user 기록을 추가한 사용자 (UserManager에 등록된 사용자)
+     * @param gameRecord 추가된 게임 기록
+     * @param recordIndex 사용자의 게임 기록 중 추가된 기록의 순번
+     */
+    public synchronized void recordAdded(User user, GameRecord gameRecord, int recordIndex) {
+        if (!gameRecord.isFinished()) return;
+        advance();
+        int score = gameRecord.getScore();
+        long day = gameRecord.getFinishedDate().toLocalDate().toEpochDay();
+        DayBest dayBest = new DayBest(gameRecord, score, recordIndex);
+
+        for (int scope : new int[]{0, gameRecord.getDifficultyMode().ordinal() + 1}) {
+            boards[scope][RankingWindow.ALL_TIME.ordinal()].recordAdded(user, gameRecord, score);
+            if (day <= today - MAX_WINDOW_DAYS) continue;
+
+            if (!addToBucket(scope, day, user, dayBest)) continue;
+            for (RankingWindow window : WINDOWS) {
+                if (window.getDays() > 0 && day > today - window.getDays()) {
+                    recompute(scope, window, user);
+                }
+            }
+        }
+    }
+
+    /**
+     * 주어진 사용자들의 모든 게임 기록으로 모든 랭킹 보드를 다시 만듭니다
+     * 저장소에서 기록을 불러온 뒤 한 번 호출합니다
+     * 사용자별 최고 기록을 먼저 모은 뒤 각 보드를 정렬 키 기수 정렬로 한 번에 채웁니다
+     *
+     * @param userList 사용자 목록 (가입 순서)
+     */
+    public synchronized void rebuild(List<User> userList) {
+        clear();
+        int userCount = userList.size();
+        DayBest[][] allTimeBest = new DayBest[SCOPE_COUNT][userCount];
+        for (int u = 0; u < userCount; u++) {
+            User user = userList.get(u);
+            List<GameRecord> records = user.getGameRecordList();
+            for (int i = 0; i < records.size(); i++) {
+                GameRecord gameRecord = records.get(i);
+                if (!gameRecord.isFinished()) continue;
+                int score = gameRecord.getScore();
+                long day = gameRecord.getFinishedDate().toLocalDate().toEpochDay();
+                DayBest dayBest = new DayBest(gameRecord, score, i);
+                for (int scope : new int[]{0, gameRecord.getDifficultyMode().ordinal() + 1}) {
+                    DayBest current = allTimeBest[scope][u];
+                    if (current == null || dayBest.isBetterThan(current)) {
+                        allTimeBest[scope][u] = dayBest;
+                    }
+                    if (day > today - MAX_WINDOW_DAYS) {
+                        addToBucket(scope, day, user, dayBest);
+                    }
+                }
+            }
+        }
+
+        for (int scope = 0; scope < SCOPE_COUNT; scope++) {
+            for (RankingWindow window : WINDOWS) {
+                DayBest[] best = allTimeBest[scope];
+                if (window.getDays() > 0) {
+                    best = new DayBest[userCount];
+                    Set<User> inWindow = Collections.newSetFromMap(new IdentityHashMap<>());
+                    for (Map<User, DayBest> bucket : dayBuckets.get(scope).tailMap(today - window.getDays(), false).values()) {
+                        inWindow.addAll(bucket.keySet());
+                    }
+                    for (int u = 0; u < userCount && !inWindow.isEmpty(); u++) {
+                        if (inWindow.contains(userList.get(u))) {
+                            best[u] = bestInWindow(scope, window, userList.get(u));
+                        }
+                    }
+                }
+                load(boards[scope][window.ordinal()], userList, best);
+            }
+        }
+    }
+
+    private static void load(Leaderboard board, List<User> userList, DayBest[] best) {
+        List<User> users = new ArrayList<>();
+        List<UserRanking> rankings = new ArrayList<>();
+        for (int u = 0; u < best.length; u++) {
+            DayBest dayBest = best[u];
+            if (dayBest == null) continue;
+            User user = userList.get(u);
+            GameRecord gameRecord = dayBest.gameRecord;
+            users.add(user);
+            rankings.add(new UserRanking(user, dayBest.score, gameRecord.getDifficultyMode(), gameRecord.getAttemptCnt(), gameRecord.getFinishedDate()));
+        }
+        board.load(users, rankings);
+    }
+
+    /**
+     * 모든 랭킹 보드와 날짜 버킷을 비웁니다
+     */
+    public synchronized void clear() {
+        for (int scope = 0; scope < SCOPE_COUNT; scope++) {
+            dayBuckets.get(scope).clear();
+            for (Leaderboard board : boards[scope]) {
+                board.clear();
+            }
+        }
+        today = LocalDate.now(clock).toEpochDay();
+    }
+
+    /**
+     * 오늘 날짜를 정하는 시계를 설정합니다
+     * 시계가 앞으로 가면 다음 조회 때 기간이 지난 기록을 보드에서 뺍니다
+     *
+     * @param clock 사용할 시계
+     */
+    public synchronized void setClock(Clock clock) {
+        this.clock = clock;
+        advance();
+    }
+
+    /**
+     * 날짜가 바뀌었으면 기간 보드에서 빠지는 버킷의 사용자만 다시 계산하고, 오래된 버킷을 버립니다
+     */
+    private void advance() {
+        long day = LocalDate.now(clock).toEpochDay();
+        if (day <= today) return;
+        long previous = today;
+        today = day;
+
+        for (int scope = 0; scope < SCOPE_COUNT; scope++) {
+            NavigableMap<Long, Map<User, DayBest>> buckets = dayBuckets.get(scope);
+            for (RankingWindow window : WINDOWS) {
+                if (window.getDays() == 0) continue;
+                long firstExpired = previous - window.getDays() + 1;
+                long lastExpired = day - window.getDays();
+                if (firstExpired > lastExpired) continue;
+
+                Set<User> affected = Collections.newSetFromMap(new IdentityHashMap<>());
+                for (Map<User, DayBest> bucket : buckets.subMap(firstExpired, true, lastExpired, true).values()) {
+                    affected.addAll(bucket.keySet());
+                }
+                for (User user : affected) {
+                    recompute(scope, window, user);
+                }
+            }
+            buckets.headMap(day - MAX_WINDOW_DAYS, true).clear();
+        }
+    }
+
+    /**
+     * 날짜 버킷에 사용자의 기록을 넣습니다
+     *
+     * @return 그날 사용자의 최고 기록이 바뀌었으면 true
+     */
+    private boolean addToBucket(int scope, long day, User user, DayBest dayBest) {
+        Map<User, DayBest> bucket = dayBuckets.get(scope).computeIfAbsent(day, d -> new IdentityHashMap<>());
+        DayBest current = bucket.get(user);
+        if (current != null && !dayBest.isBetterThan(current)) return false;
+        bucket.put(user, dayBest);
+        return true;
+    }
+
+    /**
+     * 기간에 남아 있는 버킷에서 사용자의 최고 기록을 찾습니다
+     */
+    private DayBest bestInWindow(int scope, RankingWindow window, User user) {
+        DayBest best = null;
+        for (Map<User, DayBest> bucket : dayBuckets.get(scope).tailMap(today - window.getDays(), false).values()) {
+            DayBest candidate = bucket.get(user);
+            if (candidate != null && (best == null || candidate.isBetterThan(best))) {
+                best = candidate;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * 기간에 남아 있는 버킷에서 사용자의 최고 기록을 찾아 기간 보드의 항목을 바꿉니다
+     */
+    private void recompute(int scope, RankingWindow window, User user) {
+        DayBest best = bestInWindow(scope, window, user);
+        Leaderboard board = boards[scope][window.ordinal()];
+        if (best == null) {
+            board.remove(user);
+        } else {
+            board.put(user, best.gameRecord, best.score);
+        }
+    }
+
+    /**
+     * 하루 버킷에 담는 사용자의 최고 기록입니다
+     * 점수가 같으면 먼저 추가된(순번이 빠른) 기록이 앞섭니다
+     */
+    private static final class DayBest {
+        final GameRecord gameRecord;
+        final int score;
+        final int recordIndex;
+
+        DayBest(GameRecord gameRecord, int score, int recordIndex) {
+            this.gameRecord = gameRecord;
+            this.score = score;
+            this.recordIndex = recordIndex;
+        }
+
+        boolean isBetterThan(DayBest other) {
+            return score > other.score || (score == other.score && recordIndex < other.recordIndex);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package game.state.ranking;
+
+import game.record.GameRecord;
+import game.record.GameScore;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+/**
+ * 랭킹 순서를 하나의 long 값으로 표현하는 정렬 키입니다
+ * 상위 16비트는 뒤집은 점수, 다음 16비트는 시도 횟수, 하위 32비트는 GameRecord.FINISHED_DATE_EPOCH(2020-01-01T00:00)부터의 완료 일자(초)이며,
+ * 키를 부호 없는 정수로 비교하면 점수 내림차순, 시도 횟수 오름차순, 완료 일자 오름차순과 같습니다
+ * 각 자리의 범위(점수 GameScore.MIN_SCORE~MAX_SCORE, 시도 횟수 GameRecord.MAX_ATTEMPT_CNT 이하, 완료 일자 GameRecord.MAX_FINISHED_SECONDS 이하)는
+ * GameRecord가 기록할 때 맞추는 범위와 같으므로, 게임 기록에서 만든 키의 순서는 RankingState의 비교 순서와 같습니다
+ * 그 밖의 값이 들어오면 가장 가까운 값으로 저장합니다
+ */
+public final class RankingKey {
+
+    /** 한 번의 분배에서 처리하는 비트 수 */
+    private static final int RADIX_BITS = 16;
+    private static final int RADIX = 1 << RADIX_BITS;
+
+    private RankingKey() {
+    }
+
+    /**
+     * 랭킹 항목의 정렬 키를 만듭니다
+     *
+     * @param score 점수
+     * @param attemptCnt 시도 횟수
+     * @param finishedDate 완료 일자 (초 단위까지 비교합니다)
+     * @return 부호 없는 비교로 정렬되는 키
+     */
+    public static long of(int score, int attemptCnt, LocalDateTime finishedDate) {
+        long invertedScore = GameScore.MAX_SCORE - Math.max(GameScore.MIN_SCORE, Math.min(GameScore.MAX_SCORE, score));
+        long attempts = Math.max(0, Math.min(GameRecord.MAX_ATTEMPT_CNT, attemptCnt));
+        long seconds = Math.max(0L, Math.min(GameRecord.MAX_FINISHED_SECONDS, finishedDate.toEpochSecond(ZoneOffset.UTC) - GameRecord.FINISHED_DATE_EPOCH));
+        return invertedScore << 48 | attempts << 32 | seconds;
+    }
+
+    /**
+     * 키 배열을 LSD 기수 정렬로 정렬했을 때의 원래 위치 순서를 반환합니다
+     * 안정 정렬이므로 키가 같은 항목은 입력 순서를 유지합니다
+     * 모든 키에서 같은 16비트 자리는 분배를 건너뜁니다
+     *
+     * @param keys 정렬 키 배열 (변경하지 않습니다)
+     * @param count 정렬할 앞쪽 키의 수
+     * @return 정렬된 순서대로 나열한 원래 위치 배열
+     */
+    public static int[] sortedOrder(long[] keys, int count) {
+        long[] sortedKeys = new long[count];
+        int[] order = new int[count];
+        System.arraycopy(keys, 0, sortedKeys, 0, count);
+        for (int i = 0; i < count; i++) {
+            order[i] = i;
+        }
+
+        long[] keyBuffer = new long[count];
+        int[] orderBuffer = new int[count];
+        int[] counts = new int[RADIX];
+        for (int shift = 0; shift < Long.SIZE; shift += RADIX_BITS) {
+            Arrays.fill(counts, 0);
+            for (int i = 0; i < count; i++) {
+                counts[(int) (sortedKeys[i] >>> shift) & (RADIX - 1)]++;
+            }
+            if (count == 0 || counts[(int) (sortedKeys[0] >>> shift) & (RADIX - 1)] == count) {
+                continue;
+            }
+            int start = 0;
+            for (int d = 0; d < RADIX; d++) {
+                int c = counts[d];
+                counts[d] = start;
+                start += c;
+            }
+            for (int i = 0; i < count; i++) {
+                int position = counts[(int) (sortedKeys[i] >>> shift) & (RADIX - 1)]++;
+                keyBuffer[position] = sortedKeys[i];
+                orderBuffer[position] = order[i];
+            }
+            long[] k = sortedKeys;
+            sortedKeys = keyBuffer;
+            keyBuffer = k;
+            int[] o = order;
+            order = orderBuffer;
+            orderBuffer = o;
+        }
+        return order;
+    }
+}
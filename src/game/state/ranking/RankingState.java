@@ -2,11 +2,11 @@ package game.state.ranking;
 
 import game.BaseballGame;
 import game.difficulty.DifficultyMode;
-import game.record.GameRecord;
 import game.state.GameState;
 import game.state.menu.MenuState;
 import user.User;
 import util.CustomDesign;
+import util.LineReader;
 
 import java.util.*;
 import java.util.stream.Collectors;
@@ -14,11 +14,16 @@ import java.util.stream.Collectors;
 /**
  * 게임의 랭킹 상태를 관리하는 클래스입니다
  * 사용자들의 게임 기록을 바탕으로 랭킹을 계산하고 표시합니다
+ * 화면에는 게임이 끝날 때마다 갱신되는 Leaderboard의 순위를 그대로 표시하며,
+ * 난이도(전체, EASY, MEDIUM, HARD)와 기간(오늘, 최근 7일, 전체 기간)을 골라 볼 수 있습니다
  */
 public class RankingState implements GameState {
 
     public static RankingState rankingState;
 
+    /** 한 화면에 표시할 순위 수 */
+    private static final int PAGE_SIZE = 10;
+
     private RankingState(){}
 
     public static synchronized RankingState getInstance(){
@@ -33,36 +38,67 @@ public class RankingState implements GameState {
 *
 * */
     /**
-     * 사용자 목록을 가져와 랭킹을 계산하고 출력한 후, 메뉴 상태로 전환합니다
+     * 선택한 랭킹 보드의 순위를 한 페이지씩 출력하고 현재 사용자의 순위를 함께 표시합니다
+     * n, p 입력으로 페이지를 넘기고, 0~3으로 난이도를, d, w, t로 기간을 바꾸며,
+     * 그 외 입력을 받으면 메뉴 상태로 전환합니다
      *
      * @param baseballGame 현재의 야구 게임 인스턴스
-     * @param sc Scanner 객체
+     * @param reader 사용자 입력을 한 줄씩 읽는 LineReader 객체
      */
     @Override
-    public void handle(BaseballGame baseballGame, Scanner sc) {
-        //1. baseballGame의 userManager에서 전체 유저 리스트 꺼내기
-        List<User> userList = baseballGame.getUserManager().getUserList();
-
-        //2. 유저 리스트를 사용해 랭킹에 내보낼 UserRanking 리스트 구하기
-        List<UserRanking> rankingList = getUserRankingList(userList);
+    public void handle(BaseballGame baseballGame, LineReader reader) {
+        LeaderboardManager leaderboardManager = LeaderboardManager.getInstance();
+        User user = baseballGame.getCurrentUser();
+        DifficultyMode difficultyMode = null; //null이면 전체 난이도
+        RankingWindow window = RankingWindow.ALL_TIME;
+        int offset = 0;
+        while (true) {
+            //1. 선택한 난이도와 기간의 랭킹 보드 꺼내기
+            Leaderboard leaderboard = difficultyMode == null
+                    ? leaderboardManager.getBoard(window)
+                    : leaderboardManager.getBoard(difficultyMode, window);
+            String title = (difficultyMode == null ? "전체" : difficultyMode.name()) + " · " + window.getDisplayName();
 
-        //3. 랭킹 출력하기
-        CustomDesign.printRanking(rankingList);
+            //2. 현재 페이지의 UserRanking 리스트만 꺼내 출력하기
+            CustomDesign.printRanking(title, leaderboard.getPage(offset, PAGE_SIZE), offset + 1);
 
-        //4. MenuState으로 전환하기
-        System.out.println(CustomDesign.ANSI_YELLOW +  "Enter 키를 누르면 메뉴로 돌아갑니다..." + CustomDesign.ANSI_RESET);
-        sc.nextLine();
+            //3. 현재 사용자의 순위 출력하기
+            CustomDesign.printMyRanking(leaderboard.rankOf(user), leaderboard.size());
 
-        baseballGame.nextStep(MenuState.getInstance());
+            //4. 페이지, 난이도, 기간 이동 또는 MenuState으로 전환하기
+            CustomDesign.printRankingNavigation();
+            String input = reader.nextLine().trim();
+            switch (input) {
+                case "n" -> {
+                    if (offset + PAGE_SIZE < leaderboard.size()) offset += PAGE_SIZE;
+                    continue;
+                }
+                case "p" -> {
+                    offset = Math.max(0, offset - PAGE_SIZE);
+                    continue;
+                }
+                case "0" -> difficultyMode = null;
+                case "1", "2", "3" -> difficultyMode = DifficultyMode.findByOption(Integer.parseInt(input));
+                case "d" -> window = RankingWindow.DAILY;
+                case "w" -> window = RankingWindow.WEEKLY;
+                case "t" -> window = RankingWindow.ALL_TIME;
+                default -> {
+                    baseballGame.nextStep(MenuState.getInstance());
+                    return;
+                }
+            }
+            offset = 0;
+        }
     }
 
     /**
-     * 주어진 사용자 목록으로부터 랭킹 리스트를 생성합니다
+     * 주어진 사용자 목록의 모든 기록으로부터 랭킹 리스트를 새로 계산합니다
+     * 전체 난이도, 전체 기간 Leaderboard와 같은 순서를 만드는 기준 구현입니다
      *
      * @param userList 사용자 목록
      * @return 정렬된 UserRanking 객체 리스트
      */
-    private List<UserRanking> getUserRankingList(List<User> userList) {
+    public List<UserRanking> getUserRankingList(List<User> userList) {
         return userList.stream()
                 .map(this::calculateUserRanking)
                 .filter(Optional::isPresent)
@@ -76,59 +112,14 @@ public class RankingState implements GameState {
     }
 
     /**
-     * 주어진 사용자의 최고 점수 게임 기록을 찾아 UserRanking 객체를 생성합니다
+     * 주어진 사용자의 최고 점수 게임 기록으로 UserRanking 객체를 생성합니다
+     * 점수는 게임 완료 시 계산해 둔 값을 사용합니다
      *
      * @param user 랭킹을 계산할 사용자
      * @return UserRanking 객체를 감싼 Optional
      */
     private Optional<UserRanking> calculateUserRanking(User user) {
-        return user.getGameRecordList().stream()
-                .filter(GameRecord::isFinished)
-                .max(Comparator.comparingInt(this::calculateGameScore))
-                .map(gameRecord -> {
-                    UserRanking userRanking = new UserRanking(user, calculateGameScore(gameRecord), gameRecord.getDifficultyMode(), gameRecord.getAttemptCnt(), gameRecord.getFinishedDate());
-                    return Optional.of(userRanking);
-                })
-                .orElse(Optional.empty());
-    }
-
-    /**
-     * 주어진 게임 기록의 최종 점수를 계산합니다
-     *
-     * @param gameRecord 점수를 계산할 게임 기록
-     * @return 계산된 게임 점수
-     */
-    private int calculateGameScore(GameRecord gameRecord) {
-        int score = 100;
-        score += getDifficultyScore(gameRecord.getDifficultyMode());
-        score -= gameRecord.getAttemptCnt();
-        score += getBonusScore(gameRecord.getAttemptCnt());
-        return score;
-    }
-
-    /**
-     * 시도 횟수에 따른 보너스 점수를 계산합니다
-     *
-     * @param attemptCount 시도 횟수
-     * @return 보너스 점수
-     */
-    private int getBonusScore(int attemptCount) {
-        if (attemptCount <= 3) return 10;
-        if (attemptCount <= 5) return 5;
-        return 0;
-    }
-
-    /**
-     * 게임 난이도에 따른 가산점을 반환합니다
-     *
-     * @param difficultyMode 게임 난이도
-     * @return 난이도에 따른 가산점
-     */
-    private int getDifficultyScore(DifficultyMode difficultyMode){
-        return switch(difficultyMode){
-            case EASY -> 1;
-            case MEDIUM -> 3;
-            case HARD -> 5;
-        };
+        return user.getBestGameRecord()
+                .map(gameRecord -> new UserRanking(user, gameRecord.getScore(), gameRecord.getDifficultyMode(), gameRecord.getAttemptCnt(), gameRecord.getFinishedDate()));
     }
 }
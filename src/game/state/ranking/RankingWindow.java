@@ -0,0 +1,43 @@
+package game.state.ranking;
+
+/**
+ * 랭킹에 포함할 기록의 기간을 정의합니다
+ * 기간은 완료 일자의 날짜 단위로 나누며, 오늘을 포함해 최근 days일 동안 완료한 기록만 포함합니다
+ */
+public enum RankingWindow {
+
+    /** 오늘 완료한 기록 */
+    DAILY("오늘", 1),
+
+    /** 오늘을 포함해 최근 7일 동안 완료한 기록 */
+    WEEKLY("최근 7일", 7),
+
+    /** 모든 기록 */
+    ALL_TIME("전체 기간", 0);
+
+    private final String displayName;
+    private final int days;
+
+    RankingWindow(String displayName, int days) {
+        this.displayName = displayName;
+        this.days = days;
+    }
+
+    /**
+     * 화면에 표시할 기간 이름을 반환합니다
+     *
+     * @return 기간 이름
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * 기간에 포함되는 날짜 수를 반환합니다
+     *
+     * @return 날짜 수, 전체 기간이면 0
+     */
+    public int getDays() {
+        return days;
+    }
+}
@@ -16,6 +16,7 @@ public class UserRanking {
     private final DifficultyMode difficultyMode;
 
     private final LocalDateTime finishedDate;
+    private final long sortKey; //RankingKey 형식의 정렬 키
     private static final DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
     public String getUsername() {
@@ -40,12 +41,21 @@ public class UserRanking {
         return difficultyMode;
     }
 
+    /**
+     * 점수, 시도 횟수, 완료 일자 순서를 담은 정렬 키를 반환합니다
+     * @return RankingKey 형식의 키 (부호 없는 비교)
+     */
+    public long getSortKey() {
+        return sortKey;
+    }
+
     public UserRanking(User user, int score, DifficultyMode difficultyMode, int totalAttemptCnt, LocalDateTime finishedDate) {
         this.username = user.getUsername();
         this.score = score;
         this.difficultyMode = difficultyMode;
         this.attemptCnt = totalAttemptCnt;
         this.finishedDate = finishedDate;
+        this.sortKey = RankingKey.of(score, totalAttemptCnt, finishedDate);
     }
 
 }
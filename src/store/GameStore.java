@@ -0,0 +1,429 @@
+package store;
+
+import game.difficulty.DifficultyMode;
+import game.record.GameRecord;
+import user.User;
+import user.UserManager;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.UTFDataFormatException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * 사용자와 게임 기록을 디스크에 보관하는 저장소입니다
+ * 변경 사항은 덧붙이기 전용 저널 파일에 기록하고, 일정 개수마다 전체 상태를 스냅샷 파일로 남긴 뒤 저널을 비웁니다
+ * 저널 기록은 백그라운드 스레드가 모아서 한 번에 쓰고 fsync하므로(group commit) 게임 진행 스레드는 대기하지 않습니다
+ * 대기열은 MAX_PENDING개까지만 받으며, 가득 차면 기록하는 쪽이 자리가 날 때까지 기다립니다
+ * 쓰기에 실패하면 그 뒤로는 기록을 받지 않고 userLoggedIn, recordAdded가 예외를 던져 실패를 알립니다
+ * 닫힌 뒤의 기록이나 대기 중 중단된 기록도 버리지 않고 예외로 알립니다
+ * 시작 시 스냅샷과 남은 저널을 순서대로 읽어 UserManager를 복원합니다
+ */
+public class GameStore implements AutoCloseable {
+
+    private static final int MAGIC = 0x42424A31; // "BBJ1"
+    private static final byte USER_ENTRY = 1;
+    private static final byte RECORD_ENTRY = 2;
+    private static final long NO_DATE = Long.MIN_VALUE;
+    /** 게임 기록 항목의 바이트 수 (종류 1, 사용자 번호 4, 순번 4, 난이도 1, 시도 횟수 4, 성공 여부 1, 일자 8 + 4) */
+    private static final int RECORD_ENTRY_BYTES = 27;
+    /** writeUTF로 쓸 수 있는 사용자 이름의 최대 바이트 수 */
+    private static final int MAX_USERNAME_BYTES = 0xFFFF;
+
+    /** 한 번의 쓰기/fsync로 묶을 최대 항목 수 */
+    private static final int MAX_BATCH = 4096;
+    /** 쓰기를 기다릴 수 있는 최대 항목 수 */
+    private static final int MAX_PENDING = 16 * MAX_BATCH;
+    /** 이 개수만큼 저널에 기록하면 스냅샷을 새로 만듭니다 */
+    private static final long SNAPSHOT_INTERVAL = 1_000_000L;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private static final String SNAPSHOT_FILE = "snapshot.bin";
+    private static final String JOURNAL_FILE = "journal.bin";
+    private static final String OLD_JOURNAL_FILE = "journal.old";
+
+    /** writer 스레드에 종료를 알리는 항목 */
+    private static final Entry POISON = new Entry(null, null, -1);
+
+    private final Path directory;
+    private final UserManager userManager;
+    private final BlockingQueue<Entry> queue = new LinkedBlockingQueue<>(MAX_PENDING);
+    private final Thread writer;
+
+    private volatile boolean isClosed;
+    private volatile IOException failure;
+
+    // 아래 필드는 writer 스레드만 사용합니다
+    private FileOutputStream journalFile;
+    private DataOutputStream journal;
+    private Map<User, Integer> journalUserIds = new IdentityHashMap<>();
+    private long entriesSinceSnapshot;
+
+    private GameStore(Path directory, UserManager userManager) throws IOException {
+        this.directory = directory;
+        this.userManager = userManager;
+        openJournal();
+        this.writer = new Thread(this::writeLoop, "game-store-writer");
+        this.writer.setDaemon(true);
+    }
+
+    /**
+     * 저장소를 열고 저장된 사용자와 게임 기록을 UserManager에 복원합니다
+     *
+     * @param directory 저장 파일을 둘 디렉토리
+     * @param userManager 복원 대상이자 스냅샷 원본인 사용자 관리 객체
+     * @return 열린 저장소
+     * @throws IOException 파일을 읽거나 만들 수 없는 경우 발생
+     */
+    public static GameStore open(Path directory, UserManager userManager) throws IOException {
+        Files.createDirectories(directory);
+        Path oldJournal = directory.resolve(OLD_JOURNAL_FILE);
+        Path journal = directory.resolve(JOURNAL_FILE);
+        for (Path file : new Path[]{directory.resolve(SNAPSHOT_FILE), oldJournal, journal}) {
+            if (Files.exists(file)) replay(file, userManager);
+        }
+
+        // 남은 저널은 복원한 상태를 스냅샷으로 남긴 뒤에 지웁니다
+        if (Files.exists(oldJournal) || Files.exists(journal)) {
+            writeSnapshot(directory, userManager);
+            Files.deleteIfExists(oldJournal);
+            Files.deleteIfExists(journal);
+        }
+
+        GameStore store = new GameStore(directory, userManager);
+        store.writer.start();
+        return store;
+    }
+
+    /**
+     * 사용자 로그인을 저장합니다
+     * 게임 기록이 없는 사용자도 다음 실행 때 복원되도록 합니다
+     *
+     * @param user 로그인한 사용자
+     * @throws IllegalArgumentException 사용자 이름이 너무 길어 저장할 수 없는 경우 발생 (저장소는 계속 사용할 수 있습니다)
+     * @throws UncheckedIOException 이전에 저장에 실패해 더 이상 기록을 받지 않거나, 대기열 자리를 기다리다 중단된 경우 발생
+     * @throws IllegalStateException 저장소가 이미 닫힌 경우 발생
+     */
+    public void userLoggedIn(User user) {
+        if (!canStore(user.getUsername())) {
+            throw new IllegalArgumentException("저장할 수 없는 길이의 사용자 이름입니다");
+        }
+        enqueue(new Entry(user, null, -1));
+    }
+
+    /**
+     * 사용자 이름을 저장소에 쓸 수 있는지 확인합니다
+     * 쓸 수 없는 이름이 대기열에 들어가면 쓰기 스레드가 실패해 이후 기록을 모두 받지 않게 되므로 로그인 전에 걸러야 합니다
+     *
+     * @param username 확인할 사용자 이름
+     * @return 수정된 UTF-8로 MAX_USERNAME_BYTES바이트 이하이면 true
+     */
+    public static boolean canStore(String username) {
+        return utfLength(username) <= MAX_USERNAME_BYTES;
+    }
+
+    /**
+     * 사용자에게 추가된 게임 기록을 저장합니다
+     * 이미 사용자의 게임 기록 리스트에 추가된 뒤에 호출해야 합니다
+     *
+     * @param user 기록을 추가한 사용자
+     * @param gameRecord 추가된 게임 기록
+     * @param index 사용자의 게임 기록 중 추가된 기록의 순번
+     * @throws UncheckedIOException 이전에 저장에 실패해 더 이상 기록을 받지 않거나, 대기열 자리를 기다리다 중단된 경우 발생
+     * @throws IllegalStateException 저장소가 이미 닫힌 경우 발생
+     */
+    public void recordAdded(User user, GameRecord gameRecord, int index) {
+        enqueue(new Entry(user, gameRecord, index));
+    }
+
+    /**
+     * 대기 중인 기록을 모두 쓰고 최종 스냅샷을 남긴 뒤 저장소를 닫습니다
+     *
+     * @throws UncheckedIOException 저장 중 오류가 있었던 경우 발생
+     */
+    @Override
+    public void close() {
+        if (isClosed) return;
+        isClosed = true;
+        try {
+            // writer 스레드가 이미 실패해 끝났으면 종료 항목을 받을 곳이 없습니다
+            if (failure == null) queue.put(POISON);
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (failure != null) {
+            throw new UncheckedIOException("게임 기록을 저장하지 못했습니다", failure);
+        }
+    }
+
+    private void enqueue(Entry entry) {
+        if (failure != null) {
+            throw new UncheckedIOException("게임 기록을 저장하지 못했습니다", failure);
+        }
+        if (isClosed) {
+            throw new IllegalStateException("닫힌 저장소에는 기록할 수 없습니다");
+        }
+        try {
+            queue.put(entry);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            InterruptedIOException interrupted = new InterruptedIOException("기록을 대기열에 넣는 중 중단되었습니다");
+            interrupted.initCause(e);
+            throw new UncheckedIOException("게임 기록을 저장하지 못했습니다", interrupted);
+        }
+    }
+
+    /**
+     * 저널 기록 루프입니다
+     * 대기열에서 가능한 만큼 꺼내 한 번에 쓰고 fsync합니다
+     * 실패하면 실패를 기록하고 대기열을 비운 뒤 끝나므로, 자리를 기다리던 쪽도 멈추지 않고 다음 기록부터 실패를 알게 됩니다
+     */
+    private void writeLoop() {
+        List<Entry> batch = new ArrayList<>(MAX_BATCH);
+        try {
+            boolean isRunning = true;
+            while (isRunning) {
+                try {
+                    batch.add(queue.take());
+                } catch (InterruptedException e) {
+                    break;
+                }
+                queue.drainTo(batch, MAX_BATCH - 1);
+                isRunning = !batch.contains(POISON);
+                writeBatch(batch);
+                batch.clear();
+                if (entriesSinceSnapshot >= SNAPSHOT_INTERVAL) rotate();
+            }
+            queue.drainTo(batch);
+            writeBatch(batch);
+            journal.close();
+            writeSnapshot(directory, userManager);
+            Files.deleteIfExists(directory.resolve(JOURNAL_FILE));
+        } catch (IOException e) {
+            failure = e;
+            queue.clear();
+            try {
+                journal.close();
+            } catch (IOException closeFailure) {
+                e.addSuppressed(closeFailure);
+            }
+        }
+    }
+
+    private void writeBatch(List<Entry> batch) throws IOException {
+        if (batch.isEmpty()) return;
+        for (Entry entry : batch) {
+            if (entry == POISON) continue;
+            int userId = defineUser(journal, journalUserIds, entry.user);
+            if (entry.gameRecord != null) {
+                writeRecord(journal, userId, entry.index, entry.gameRecord);
+            }
+        }
+        journal.flush();
+        journalFile.getChannel().force(false);
+        entriesSinceSnapshot += batch.size();
+    }
+
+    /**
+     * 현재 저널을 닫고 새 저널을 연 뒤, 사용자 전체 상태를 스냅샷으로 저장하고 이전 저널을 지웁니다
+     * 스냅샷 이후 새 저널에 같은 기록이 다시 쓰여도 복원 시 기록 순번으로 걸러냅니다
+     */
+    private void rotate() throws IOException {
+        Path oldJournal = directory.resolve(OLD_JOURNAL_FILE);
+        journal.close();
+        Files.move(directory.resolve(JOURNAL_FILE), oldJournal, StandardCopyOption.REPLACE_EXISTING);
+        openJournal();
+
+        writeSnapshot(directory, userManager);
+        Files.deleteIfExists(oldJournal);
+        entriesSinceSnapshot = 0;
+    }
+
+    /**
+     * 사용자 전체 상태를 임시 파일에 쓰고 fsync한 뒤 스냅샷 파일로 교체합니다
+     */
+    private static void writeSnapshot(Path directory, UserManager userManager) throws IOException {
+        Path tmp = directory.resolve(SNAPSHOT_FILE + ".tmp");
+        try (FileOutputStream file = new FileOutputStream(tmp.toFile());
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file, BUFFER_SIZE))) {
+            out.writeInt(MAGIC);
+            Map<User, Integer> ids = new IdentityHashMap<>();
+            for (User user : userManager.getUserList()) {
+                int userId = defineUser(out, ids, user);
+                List<GameRecord> records = user.getGameRecordList();
+                for (int i = 0; i < records.size(); i++) {
+                    writeRecord(out, userId, i, records.get(i));
+                }
+            }
+            out.flush();
+            file.getChannel().force(true);
+        }
+        Files.move(tmp, directory.resolve(SNAPSHOT_FILE), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void openJournal() throws IOException {
+        journalFile = new FileOutputStream(directory.resolve(JOURNAL_FILE).toFile());
+        journal = new DataOutputStream(new BufferedOutputStream(journalFile, BUFFER_SIZE));
+        journal.writeInt(MAGIC);
+        journalUserIds = new IdentityHashMap<>();
+    }
+
+    /**
+     * 파일 안에서 처음 등장하는 사용자라면 번호를 붙여 사용자 항목을 기록합니다
+     */
+    private static int defineUser(DataOutputStream out, Map<User, Integer> ids, User user) throws IOException {
+        Integer id = ids.get(user);
+        if (id == null) {
+            id = ids.size();
+            ids.put(user, id);
+            out.writeByte(USER_ENTRY);
+            out.writeInt(id);
+            out.writeUTF(user.getUsername());
+        }
+        return id;
+    }
+
+    private static void writeRecord(DataOutputStream out, int userId, int index, GameRecord gameRecord) throws IOException {
+        LocalDateTime finishedDate = gameRecord.getFinishedDate();
+        out.writeByte(RECORD_ENTRY);
+        out.writeInt(userId);
+        out.writeInt(index);
+        out.writeByte(gameRecord.getDifficultyMode().ordinal());
+        out.writeInt(gameRecord.getAttemptCnt());
+        out.writeBoolean(gameRecord.isFinished());
+        out.writeLong(finishedDate == null ? NO_DATE : finishedDate.toEpochSecond(ZoneOffset.UTC));
+        out.writeInt(finishedDate == null ? 0 : finishedDate.getNano());
+    }
+
+    /**
+     * 스냅샷 또는 저널 파일 하나를 읽어 UserManager에 반영합니다
+     * 사용자가 이미 가진 기록 순번 이하의 기록은 중복이므로 건너뜁니다
+     * 마지막 항목이 쓰다 만 상태(비정상 종료)이거나 알아볼 수 없는 항목(손상)이 나오면 파일의 끝으로 보고
+     * 그 앞까지만 반영한 뒤 파일을 마지막 정상 항목 뒤에서 잘라냅니다
+     */
+    private static void replay(Path file, UserManager userManager) throws IOException {
+        DifficultyMode[] modes = DifficultyMode.values();
+        List<User> users = new ArrayList<>();
+        long validLength;
+
+        try (InputStream raw = Files.newInputStream(file);
+             DataInputStream in = new DataInputStream(new BufferedInputStream(raw, BUFFER_SIZE))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("게임 기록 파일 형식이 올바르지 않습니다: " + file);
+            }
+            validLength = Integer.BYTES;
+            try {
+                while (true) {
+                    int type = in.read();
+                    if (type < 0) break;
+                    int entryBytes = replayEntry(in, type, users, modes, userManager);
+                    if (entryBytes < 0) break;
+                    validLength += entryBytes;
+                }
+            } catch (EOFException | UTFDataFormatException e) {
+                // 잘렸거나 손상된 마지막 항목은 버립니다
+            }
+        }
+
+        if (validLength < Files.size(file)) {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                channel.truncate(validLength);
+            }
+        }
+    }
+
+    /**
+     * 항목 하나를 읽어 반영합니다
+     *
+     * @return 읽은 항목의 바이트 수, 알 수 없는 항목이거나 값이 범위를 벗어나면 -1
+     */
+    private static int replayEntry(DataInputStream in, int type, List<User> users,
+                                       DifficultyMode[] modes, UserManager userManager) throws IOException {
+        if (type == USER_ENTRY) {
+            int id = in.readInt();
+            String username = in.readUTF();
+            if (id < 0 || id > users.size()) return -1;
+            User user = userManager.findOrCreate(username);
+            if (id == users.size()) users.add(user);
+            else users.set(id, user);
+            return 1 + Integer.BYTES + Short.BYTES + utfLength(username);
+        }
+        if (type != RECORD_ENTRY) return -1;
+
+        int userId = in.readInt();
+        int index = in.readInt();
+        int mode = in.readByte();
+        int attemptCnt = in.readInt();
+        boolean isFinished = in.readBoolean();
+        long epochSecond = in.readLong();
+        int nano = in.readInt();
+        if (userId < 0 || userId >= users.size() || index < 0 || mode < 0 || mode >= modes.length
+                || attemptCnt < 0) {
+            return -1;
+        }
+        LocalDateTime finishedDate = null;
+        if (epochSecond != NO_DATE) {
+            try {
+                finishedDate = LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+            } catch (DateTimeException e) {
+                return -1;
+            }
+        }
+        GameRecord gameRecord = new GameRecord(modes[mode], attemptCnt, isFinished, finishedDate);
+
+        User user = users.get(userId);
+        if (index >= user.getGameRecordCount()) {
+            user.addToGameRecordList(gameRecord);
+        }
+        return RECORD_ENTRY_BYTES;
+    }
+
+    /**
+     * writeUTF로 쓴 문자열의 바이트 수(길이 2바이트 제외)를 계산합니다
+     */
+    private static int utfLength(String value) {
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            length += c >= 0x0001 && c <= 0x007F ? 1 : c <= 0x07FF ? 2 : 3;
+        }
+        return length;
+    }
+
+    /**
+     * 저널에 기록할 항목입니다 (gameRecord가 null이면 사용자 로그인)
+     */
+    private static final class Entry {
+        final User user;
+        final GameRecord gameRecord;
+        final int index;
+
+        Entry(User user, GameRecord gameRecord, int index) {
+            this.user = user;
+            this.gameRecord = gameRecord;
+            this.index = index;
+        }
+    }
+}
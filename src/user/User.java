@@ -1,16 +1,25 @@
 package user;
 
 import game.record.GameRecord;
+import game.record.RecordArena;
 
 import java.util.*;
 
 /**
  * 사용자 정보와 게임 기록을 관리하는 클래스입니다
  * 사용자의 이름과 게임 기록 리스트를 포함하며, 게임 기록 관리와 조회를 위한 메소드를 제공합니다
+ * 게임 기록은 RecordArena의 슬롯에 저장하고, 사용자는 마지막 슬롯 번호와 기록 수만 가집니다
+ * 완료한 기록 중 점수가 가장 높은 기록의 슬롯 번호도 기록이 추가될 때마다 갱신합니다
+ * 슬롯 번호는 기록할 때의 RecordArena 세대와 함께 보관하며, 그 뒤 저장 공간이 초기화되었으면 기록이 없는 것으로 봅니다
  */
 public class User {
     private String username;
-    private List<GameRecord> gameRecordList = new ArrayList<>();
+    private int lastRecordSlot = RecordArena.NO_SLOT; //마지막 기록의 슬롯 번호
+    private int gameRecordCount; //게임 기록 수
+    private int registrationOrder; //UserManager에 등록된 순서
+    private int bestRecordSlot = RecordArena.NO_SLOT; //최고 점수 기록의 슬롯 번호
+    private int bestScore; //최고 점수
+    private int recordGeneration; //슬롯 번호들이 속한 RecordArena 세대
 
     public User(String username) {
         this.username = username;
@@ -19,8 +28,10 @@ public class User {
     /**
      * 사용자의 모든 게임 기록을 삭제합니다
      */
-    public void clearGameRecords(){
-        this.gameRecordList.clear();
+    public synchronized void clearGameRecords(){
+        this.lastRecordSlot = RecordArena.NO_SLOT;
+        this.gameRecordCount = 0;
+        this.bestRecordSlot = RecordArena.NO_SLOT;
     }
 
     /**
@@ -35,11 +46,30 @@ public class User {
 
     /**
      * 사용자의 게임 기록 리스트를 반환합니다
+     * 호출 시점까지의 기록을 오래된 순서로 담은 읽기 전용 뷰이며, 각 기록은 조회할 때 RecordArena에서 읽어 옵니다
+     * 뷰를 만들거나 크기만 확인할 때는 기록 연결 목록을 따라가지 않습니다
      *
      * @return 사용자의 게임 기록 리스트
      */
     public List<GameRecord> getGameRecordList() {
-        return gameRecordList;
+        int slot, count, generation;
+        synchronized (this) {
+            dropReclaimedRecords();
+            slot = lastRecordSlot;
+            count = gameRecordCount;
+            generation = recordGeneration;
+        }
+        return count == 0 ? List.of() : RecordArena.getInstance().listOf(slot, count, generation);
+    }
+
+    /**
+     * 사용자의 게임 기록 수를 반환합니다
+     *
+     * @return 게임 기록 수
+     */
+    public synchronized int getGameRecordCount() {
+        dropReclaimedRecords();
+        return gameRecordCount;
     }
 
     /**
@@ -48,18 +78,71 @@ public class User {
      *
      * @return 다음 게임의 번호
      */
-    public int getGameNumber(){
-        return this.gameRecordList.size()+1;
+    public synchronized int getGameNumber(){
+        return getGameRecordCount()+1;
     }
 
 
+    /**
+     * 완료한 게임 중 점수가 가장 높은 기록을 반환합니다
+     * 점수가 같은 기록이 여러 개면 먼저 추가된 기록을 반환합니다
+     *
+     * @return 최고 점수 기록을 담은 Optional, 완료한 게임이 없으면 빈 Optional
+     */
+    public Optional<GameRecord> getBestGameRecord() {
+        int slot, generation;
+        synchronized (this) {
+            slot = bestRecordSlot;
+            generation = recordGeneration;
+        }
+        return slot == RecordArena.NO_SLOT ? Optional.empty() : Optional.ofNullable(RecordArena.getInstance().read(slot, generation));
+    }
+
     /**
      * 새로운 게임 기록을 사용자의 게임 기록 리스트에 추가합니다
+     * 기록은 추가하는 시점의 값으로 저장되므로, 이후 gameRecord를 수정해도 반영되지 않습니다
+     * 완료한 기록의 점수가 지금까지의 최고 점수보다 높으면 최고 기록으로 지정합니다
      *
      * @param gameRecord 추가할 게임 기록
+     * @return 추가된 기록의 순번 (0부터 시작)
      */
-    public void addToGameRecordList(GameRecord gameRecord){
-        this.gameRecordList.add(gameRecord);
+    public synchronized int addToGameRecordList(GameRecord gameRecord){
+        RecordArena recordArena = RecordArena.getInstance();
+        int slot;
+        while ((slot = recordArena.append(gameRecord, lastRecordSlot, recordGeneration)) == RecordArena.NO_SLOT) {
+            // 저장 공간이 초기화되어 이전 기록의 슬롯이 회수되었으므로 새 세대에서 기록 없이 다시 시작합니다
+            clearGameRecords();
+            recordGeneration = recordArena.getGeneration();
+        }
+        this.lastRecordSlot = slot;
+        if (gameRecord.isFinished() && (bestRecordSlot == RecordArena.NO_SLOT || gameRecord.getScore() > bestScore)) {
+            this.bestRecordSlot = lastRecordSlot;
+            this.bestScore = gameRecord.getScore();
+        }
+        return this.gameRecordCount++;
+    }
+
+    /**
+     * 기록한 뒤 RecordArena가 초기화되어 슬롯이 회수되었으면 기록을 비웁니다
+     */
+    private void dropReclaimedRecords() {
+        if (gameRecordCount > 0 && recordGeneration != RecordArena.getInstance().getGeneration()) {
+            clearGameRecords();
+        }
+    }
+
+    /**
+     * UserManager에 등록된 순서를 반환합니다
+     * 랭킹에서 모든 기준이 같은 사용자는 먼저 등록된 사용자가 앞섭니다
+     *
+     * @return 0부터 시작하는 등록 순서
+     */
+    public int getRegistrationOrder() {
+        return registrationOrder;
+    }
+
+    void setRegistrationOrder(int registrationOrder) {
+        this.registrationOrder = registrationOrder;
     }
 
     /**
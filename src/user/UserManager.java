@@ -1,19 +1,26 @@
 package user;
 
-import java.util.ArrayList;
+import game.record.RecordArena;
+
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 사용자 관리를 담당하는 클래스입니다
  * 사용자 목록을 유지하고, 사용자 검색, 추가, 삭제 기능을 제공합니다
+ * 사용자 이름 기준 ConcurrentHashMap 인덱스로 검색을 O(1)에 처리하고,
+ * 가입 순서는 덧붙이기만 하는 배열로 유지해 여러 세션이 동시에 접근해도 읽기가 잠기지 않습니다
  */
 public class UserManager {
     public static UserManager userManager;
 
-    private List<User> userList;
+    private volatile Registry registry;
+
     private UserManager(){
-        userList = new ArrayList<>();
+        registry = new Registry();
     }
 
     public static synchronized UserManager getInstance(){
@@ -24,20 +31,27 @@ public class UserManager {
     }
 
     /**
-     *사용자 목록을 반환합니다
+     * 현재 시점의 사용자 목록 스냅샷을 반환합니다
+     * 반환된 목록은 읽기 전용이며, 이후 가입한 사용자는 포함되지 않습니다
      *
-     * @return 사용자 목록
+     * @return 가입 순서대로 정렬된 사용자 목록
      */
     public List<User> getUserList(){
-        return this.userList;
+        return this.registry.snapshot();
     }
 
     /**
-     * 모든 사용자의 게임 기록을 삭제하고, 사용자 목록을 초기화핮니다
+     * 모든 사용자의 게임 기록을 삭제하고, 사용자 목록을 초기화합니다
+     * 기존 목록을 수정하지 않고 새 목록으로 교체하므로, 이미 꺼낸 스냅샷의 사용자 목록은 영향을 받지 않습니다
+     * 삭제한 기록의 RecordArena 슬롯은 세대를 바꿔 회수하므로, 다른 세션이 이전 목록의 User를 가지고 있어도
+     * 그 User는 기록이 없는 것으로 보이고 새 기록은 새 세대에 쌓이며, 이전에 꺼낸 게임 기록 리스트는 조회할 때 ConcurrentModificationException을 던집니다
+     * 목록 교체와 슬롯 회수는 같은 잠금 안에서 하므로 여러 스레드가 동시에 호출해도 순서가 섞이지 않습니다
+     * 이전 목록의 User는 기록을 조회하거나 추가할 때 세대가 바뀐 것을 보고 기록을 비우므로 여기서 따로 비우지 않습니다
+     * (이전 목록과 새 목록에 함께 들어간 User가 새로 쌓은 기록을 지우지 않기 위해서입니다)
      */
-    public void clearAllUser(){
-        this.userList.forEach(User::clearGameRecords);
-        this.userList.clear();
+    public synchronized void clearAllUser(){
+        this.registry = new Registry();
+        RecordArena.getInstance().reset();
     }
 
     /**
@@ -47,19 +61,81 @@ public class UserManager {
      * @return 찾은 사용자를 포함한 Optional 객체
      */
     public Optional<User> findByUsername(String username){
-        return userList.stream()
-                .filter(user -> user.getUsername().equals(username))
-                .findFirst();
+        return Optional.ofNullable(registry.index.get(username));
+    }
+
+    /**
+     * 주어진 사용자 이름의 사용자를 찾고, 없으면 새로 만들어 목록에 추가합니다
+     * 검색과 추가가 하나의 동작으로 처리되므로 같은 이름으로 동시에 로그인해도 사용자가 중복 생성되지 않습니다
+     * 그 사이 clearAllUser로 목록이 교체되었으면 버려진 목록의 사용자를 반환하지 않고 새 목록에서 다시 찾습니다
+     *
+     * @param username 찾거나 생성할 사용자의 이름
+     * @return 기존 사용자 또는 새로 생성된 사용자
+     */
+    public User findOrCreate(String username){
+        while (true) {
+            Registry current = registry;
+            User user = current.index.get(username);
+            if (user == null) {
+                user = current.index.computeIfAbsent(username, name -> {
+                    User newUser = new User(name);
+                    current.append(newUser);
+                    return newUser;
+                });
+            }
+            if (registry == current) {
+                return user;
+            }
+        }
     }
 
     /**
      * 새로운 사용자를 목록에 추가합니다
+     * 같은 이름의 사용자가 이미 있으면 추가하지 않습니다
+     * 그 사이 clearAllUser로 목록이 교체되었으면 새 목록에 다시 추가합니다
      *
      * @param user 추가할 사용자 객체
      */
     public void addUser(User user){
-        this.userList.add(user);
+        Registry current;
+        do {
+            current = registry;
+            Registry target = current;
+            target.index.computeIfAbsent(user.getUsername(), name -> {
+                target.append(user);
+                return user;
+            });
+        } while (registry != current);
     }
 
+    /**
+     * 사용자 인덱스와 가입 순서 목록을 묶은 저장소입니다
+     * 목록 배열의 [0, size) 구간은 한 번 기록되면 바뀌지 않으므로,
+     * size를 먼저 읽고 배열을 읽으면 잠금 없이 일관된 스냅샷을 얻을 수 있습니다
+     */
+    private static final class Registry {
+        private static final int INITIAL_CAPACITY = 16;
 
+        final ConcurrentHashMap<String, User> index = new ConcurrentHashMap<>();
+        private volatile User[] users = new User[INITIAL_CAPACITY];
+        private volatile int size;
+
+        synchronized void append(User user) {
+            User[] current = users;
+            int n = size;
+            if (n == current.length) {
+                current = Arrays.copyOf(current, n * 2);
+            }
+            current[n] = user;
+            user.setRegistrationOrder(n);
+            users = current;
+            size = n + 1;
+        }
+
+        List<User> snapshot() {
+            int n = size;
+            User[] current = users;
+            return Collections.unmodifiableList(Arrays.asList(current).subList(0, n));
+        }
+    }
 }
@@ -0,0 +1,211 @@
+package util;
+
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 콘솔 화면 한 장(frame)을 버퍼에 모아 한 번에 출력하는 클래스입니다
+ * 출력할 문자열은 재사용하는 StringBuilder에 이어 붙이고, flush할 때 UTF-8로 인코딩해
+ * 표준 출력 채널에 한 번의 write로 씁니다
+ * 미리 인코딩해 둔 바이트 배열은 그때까지 모은 문자열을 먼저 인코딩한 뒤 바이트 버퍼에 그대로 복사합니다
+ * ANSI 코드 제거를 켜면 문자열을 인코딩할 때 색상 코드(ESC [ ... m)를 빼고 출력합니다
+ * CustomDesign이 입력을 기다리기 직전(입력 안내 문구 출력 시)에 flush하므로 입력 한 번마다 출력도 한 번입니다
+ * 게임 루프 스레드에서만 사용합니다
+ */
+public final class ConsoleRenderer {
+
+    private static final int INITIAL_CAPACITY = 8 * 1024;
+
+    private static ConsoleRenderer consoleRenderer;
+
+    private WritableByteChannel channel;
+    private final StringBuilder frame = new StringBuilder(INITIAL_CAPACITY);
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private ByteBuffer buffer = ByteBuffer.allocateDirect(INITIAL_CAPACITY);
+    private boolean stripAnsi;
+
+    private ConsoleRenderer(WritableByteChannel channel) {
+        this.channel = channel;
+    }
+
+    public static synchronized ConsoleRenderer getInstance() {
+        if (consoleRenderer == null) {
+            consoleRenderer = new ConsoleRenderer(new FileOutputStream(FileDescriptor.out).getChannel());
+        }
+        return consoleRenderer;
+    }
+
+    /**
+     * 출력할 채널을 바꿉니다 (예: 세션 재생 결과를 파일로 남기거나 버릴 때)
+     * 지금까지 모은 화면은 이전 채널로 출력합니다
+     *
+     * @param channel 출력 채널
+     */
+    public void setChannel(WritableByteChannel channel) {
+        flush();
+        this.channel = channel;
+    }
+
+    /**
+     * 문자열을 인코딩할 때 ANSI 색상 코드를 뺄지 정합니다
+     * 미리 인코딩해 둔 바이트 배열에는 적용되지 않습니다
+     *
+     * @param stripAnsi ANSI 색상 코드를 빼려면 true
+     */
+    public void setStripAnsi(boolean stripAnsi) {
+        encodePending();
+        this.stripAnsi = stripAnsi;
+    }
+
+    public ConsoleRenderer append(String text) {
+        frame.append(text);
+        return this;
+    }
+
+    public ConsoleRenderer append(char c) {
+        frame.append(c);
+        return this;
+    }
+
+    public ConsoleRenderer append(int value) {
+        frame.append(value);
+        return this;
+    }
+
+    /**
+     * 미리 UTF-8로 인코딩해 둔 바이트를 이어 붙입니다
+     *
+     * @param encoded UTF-8로 인코딩된 바이트 배열 (변경하지 않습니다)
+     */
+    public ConsoleRenderer append(byte[] encoded) {
+        encodePending();
+        while (buffer.remaining() < encoded.length) {
+            grow();
+        }
+        buffer.put(encoded);
+        return this;
+    }
+
+    /**
+     * 줄바꿈 문자를 이어 붙입니다
+     */
+    public ConsoleRenderer newLine() {
+        frame.append('\n');
+        return this;
+    }
+
+    /**
+     * 문자열을 이어 붙이고 길이가 width가 될 때까지 오른쪽을 공백으로 채웁니다 (printf의 %-Ns)
+     *
+     * @param text 출력할 문자열
+     * @param width 최소 길이
+     */
+    public ConsoleRenderer appendPadded(String text, int width) {
+        frame.append(text);
+        pad(width - text.length());
+        return this;
+    }
+
+    /**
+     * 정수를 이어 붙이고 길이가 width가 될 때까지 오른쪽을 공백으로 채웁니다 (printf의 %-Nd)
+     *
+     * @param value 출력할 정수
+     * @param width 최소 길이
+     */
+    public ConsoleRenderer appendPadded(int value, int width) {
+        int start = frame.length();
+        frame.append(value);
+        pad(width - (frame.length() - start));
+        return this;
+    }
+
+    /**
+     * 지금까지 모은 화면을 한 번에 출력하고 버퍼를 비웁니다
+     *
+     * @throws UncheckedIOException 출력에 실패한 경우 발생
+     */
+    public void flush() {
+        encodePending();
+        if (buffer.position() == 0) return;
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("콘솔에 출력하지 못했습니다", e);
+        } finally {
+            buffer.clear();
+        }
+    }
+
+    /**
+     * 아직 인코딩하지 않은 문자열을 바이트 버퍼 뒤에 인코딩하고 문자열 버퍼를 비웁니다
+     */
+    private void encodePending() {
+        if (stripAnsi) removeAnsi(frame);
+        if (frame.length() == 0) return;
+        CharBuffer chars = CharBuffer.wrap(frame);
+        encoder.reset();
+        while (encoder.encode(chars, buffer, true).isOverflow()) {
+            grow();
+        }
+        while (encoder.flush(buffer).isOverflow()) {
+            grow();
+        }
+        frame.setLength(0);
+    }
+
+    /**
+     * 문자열에서 ANSI 색상 코드를 뺍니다
+     *
+     * @param text 원래 문자열
+     * @return ANSI 색상 코드를 뺀 문자열
+     */
+    static String stripAnsi(String text) {
+        StringBuilder sb = new StringBuilder(text);
+        removeAnsi(sb);
+        return sb.toString();
+    }
+
+    private static void removeAnsi(StringBuilder text) {
+        int length = text.length();
+        int write = 0;
+        for (int read = 0; read < length; read++) {
+            char c = text.charAt(read);
+            if (c == '\u001B' && read + 1 < length && text.charAt(read + 1) == '[') {
+                int end = read + 2;
+                while (end < length && text.charAt(end) != 'm') end++;
+                if (end < length) {
+                    read = end;
+                    continue;
+                }
+            }
+            text.setCharAt(write++, c);
+        }
+        text.setLength(write);
+    }
+
+    private void pad(int count) {
+        for (int i = 0; i < count; i++) {
+            frame.append(' ');
+        }
+    }
+
+    private void grow() {
+        ByteBuffer grown = ByteBuffer.allocateDirect(buffer.capacity() * 2);
+        buffer.flip();
+        grown.put(buffer);
+        buffer = grown;
+    }
+}
@@ -1,13 +1,18 @@
 package util;
 
+import game.difficulty.DifficultyMode;
+import game.logic.ResultCount;
 import game.record.GameRecord;
 import game.state.ranking.UserRanking;
 import user.User;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 /**
  * 게임 중 콘솔에 표시되는 출력 문구를 커스텀하는 클래스입니다
+ * 모든 출력은 ConsoleRenderer의 화면 버퍼에 모으며, 입력을 기다리기 직전에 출력하는 안내 문구에서 한 번에 flush합니다
+ * 출력 형식(OutputProfile)이 MACHINE이면 화면 대신 이벤트마다 한 줄을 출력합니다
  */
 public class CustomDesign {
     public static final String ANSI_RESET = "\u001B[0m";
@@ -27,128 +32,298 @@ public class CustomDesign {
     public static final String ANSI_SILVER = "\u001B[37m";
     public static final String ANSI_BRONZE = "\u001B[31m";
 
+    private static final String RANKING_SEPARATOR = "------------------------------------------------";
+
+    private static final ConsoleRenderer out = ConsoleRenderer.getInstance();
+
+    private static final char TAB = '\t';
+
+    private static OutputProfile profile = OutputProfile.ANSI;
+    /** 숫자 길이별, ResultCount.pack 결과별로 미리 인코딩한 결과 줄 (난이도마다, 출력 형식이 바뀔 때마다 만듭니다) */
+    private static byte[][][] resultLines = createResultLines();
+
+    /**
+     * 출력 형식을 설정합니다
+     * 게임을 시작하기 전에 한 번 호출합니다
+     *
+     * @param outputProfile 사용할 출력 형식
+     */
+    public static void setOutputProfile(OutputProfile outputProfile) {
+        profile = outputProfile;
+        out.setStripAnsi(outputProfile == OutputProfile.PLAIN);
+        resultLines = createResultLines();
+    }
+
     public static void printStartMessage() {
-        System.out.println(ANSI_CYAN + "╔════════════════════════════════════════════════╗" + ANSI_RESET);
-        System.out.println(ANSI_CYAN + "║          환영합니다! 야구 숫자 게임                ║" + ANSI_RESET);
-        System.out.println(ANSI_CYAN + "╠════════════════════════════════════════════════╣" + ANSI_RESET);
-        System.out.println(ANSI_CYAN + "║                                                ║" + ANSI_RESET);
-        System.out.println(ANSI_CYAN + "║" + ANSI_GREEN + "     ⚾ 규칙을 맞혀보세요! ⚾                      " + ANSI_CYAN + "║" + ANSI_RESET);
-        System.out.println(ANSI_CYAN + "║                                                ║" + ANSI_RESET);
-        System.out.println(ANSI_CYAN + "║" + ANSI_BLUE + "   숫자를 맞추면: " + ANSI_RED + "스트라이크 ✓" + ANSI_CYAN + "                       ║" + ANSI_RESET);
-        System.out.println(ANSI_CYAN + "║" + ANSI_BLUE + "   숫자만 맞으면: " + ANSI_PURPLE + "볼 ●" + ANSI_CYAN + "                             ║" + ANSI_RESET);
-        System.out.println(ANSI_CYAN + "║" + ANSI_BLUE + "   전혀 없으면  : " + ANSI_YELLOW + "아웃 ✗" + ANSI_CYAN + "                           ║" + ANSI_RESET);
-        System.out.println(ANSI_CYAN + "║                                                ║" + ANSI_RESET);
-        System.out.println(ANSI_CYAN + "╠════════════════════════════════════════════════╣" + ANSI_RESET);
-        System.out.println(ANSI_CYAN + "║                                                ║" + ANSI_RESET);
-        System.out.println(ANSI_CYAN + "║  " + ANSI_YELLOW + "닉네임을 입력하여 게임을 시작하세요!" + ANSI_CYAN + "                 ║" + ANSI_RESET);
-        System.out.println(ANSI_CYAN + "║  " + ANSI_WHITE + "또는 'exit'를 입력하여 게임을 종료할 수 있습니다." + ANSI_CYAN + "     ║" + ANSI_RESET);
-        System.out.println(ANSI_CYAN + "║                                                ║" + ANSI_RESET);
-        System.out.println(ANSI_CYAN + "╚════════════════════════════════════════════════╝" + ANSI_RESET);
-        System.out.print(ANSI_GREEN + "✏️  입력: " + ANSI_RESET);
+        if (isMachine()) {
+            prompt("PROMPT\tlogin\n");
+            return;
+        }
+        line(ANSI_CYAN + "╔════════════════════════════════════════════════╗" + ANSI_RESET);
+        line(ANSI_CYAN + "║          환영합니다! 야구 숫자 게임                ║" + ANSI_RESET);
+        line(ANSI_CYAN + "╠════════════════════════════════════════════════╣" + ANSI_RESET);
+        line(ANSI_CYAN + "║                                                ║" + ANSI_RESET);
+        line(ANSI_CYAN + "║" + ANSI_GREEN + "     ⚾ 규칙을 맞혀보세요! ⚾                      " + ANSI_CYAN + "║" + ANSI_RESET);
+        line(ANSI_CYAN + "║                                                ║" + ANSI_RESET);
+        line(ANSI_CYAN + "║" + ANSI_BLUE + "   숫자를 맞추면: " + ANSI_RED + "스트라이크 ✓" + ANSI_CYAN + "                       ║" + ANSI_RESET);
+        line(ANSI_CYAN + "║" + ANSI_BLUE + "   숫자만 맞으면: " + ANSI_PURPLE + "볼 ●" + ANSI_CYAN + "                             ║" + ANSI_RESET);
+        line(ANSI_CYAN + "║" + ANSI_BLUE + "   전혀 없으면  : " + ANSI_YELLOW + "아웃 ✗" + ANSI_CYAN + "                           ║" + ANSI_RESET);
+        line(ANSI_CYAN + "║                                                ║" + ANSI_RESET);
+        line(ANSI_CYAN + "╠════════════════════════════════════════════════╣" + ANSI_RESET);
+        line(ANSI_CYAN + "║                                                ║" + ANSI_RESET);
+        line(ANSI_CYAN + "║  " + ANSI_YELLOW + "닉네임을 입력하여 게임을 시작하세요!" + ANSI_CYAN + "                 ║" + ANSI_RESET);
+        line(ANSI_CYAN + "║  " + ANSI_WHITE + "또는 'exit'를 입력하여 게임을 종료할 수 있습니다." + ANSI_CYAN + "     ║" + ANSI_RESET);
+        line(ANSI_CYAN + "║                                                ║" + ANSI_RESET);
+        line(ANSI_CYAN + "╚════════════════════════════════════════════════╝" + ANSI_RESET);
+        prompt(ANSI_GREEN + "✏️  입력: " + ANSI_RESET);
+    }
+
+    public static void printRetryPrompt() {
+        if (isMachine()) {
+            prompt("PROMPT\tretry\n");
+            return;
+        }
+        prompt(ANSI_GREEN + "✏️  다시 입력: " + ANSI_RESET);
     }
 
     public static void printLogoutMessage() {
-        System.out.println( "  로그아웃 되었습니다. 👋        " );
+        if (isMachine()) {
+            line("LOGOUT");
+            return;
+        }
+        line( "  로그아웃 되었습니다. 👋        " );
+        line("메인 화면으로 돌아갑니다");
     }
 
     public static void printExitMessage() {
-        System.out.println("\n\n"+ANSI_RED + "게임을 종료합니다. 안녕히 가세요! 👋        " +  ANSI_RESET+"\n");
-        System.out.println(ANSI_CYAN + "모든 게임 기록이 삭제됩니다. 🗑️           " +ANSI_RESET);
-        System.out.println( ANSI_WHITE + "다음에 다시 도전해주세요!                 " + ANSI_RESET+"\n");
-        System.out.println(ANSI_GREEN + "야구 숫자 게임을 이용해 주셔서 감사합니다. " + ANSI_RESET+"\n\n");
+        if (isMachine()) {
+            prompt("EXIT\n");
+            return;
+        }
+        line("\n\n"+ANSI_RED + "게임을 종료합니다. 안녕히 가세요! 👋        " +  ANSI_RESET+"\n");
+        line(ANSI_CYAN + "모든 게임 기록이 저장되었습니다. 💾        " +ANSI_RESET);
+        line( ANSI_WHITE + "다음에 다시 도전해주세요!                 " + ANSI_RESET+"\n");
+        line(ANSI_GREEN + "야구 숫자 게임을 이용해 주셔서 감사합니다. " + ANSI_RESET+"\n\n");
+        out.flush();
     }
 
     public static void printUserWelcomeMessage(User user) {
-        System.out.printf("\n"+ANSI_CYAN + "환영합니다, %s님! 🎉\n" + ANSI_RESET, user.getUsername());
-        System.out.println(ANSI_GREEN + "야구 숫자 게임의 세계에 오신 것을 환영합니다!" + ANSI_RESET+"\n");
-        System.out.println(ANSI_WHITE + "🎯 목표: 난이도 별 숨겨진 숫자를 맞추세요" + ANSI_RESET);
-        System.out.println(ANSI_WHITE + "🧠 전략: 논리적 추론으로 숫자를 찾아내세요" + ANSI_RESET);
-        System.out.println(ANSI_WHITE + "🏆 도전: 최소 시도로 정답을 맞춰보세요!" + ANSI_RESET+"\n");
-        System.out.println(ANSI_PURPLE + "준비되셨나요? 행운을 빕니다! 🍀" + ANSI_RESET);
-        System.out.println();
+        if (isMachine()) {
+            out.append("WELCOME").append(TAB).append(user.getUsername()).newLine();
+            return;
+        }
+        out.append('\n').append(ANSI_CYAN).append("환영합니다, ").append(user.getUsername()).append("님! 🎉\n").append(ANSI_RESET);
+        line(ANSI_GREEN + "야구 숫자 게임의 세계에 오신 것을 환영합니다!" + ANSI_RESET+"\n");
+        line(ANSI_WHITE + "🎯 목표: 난이도 별 숨겨진 숫자를 맞추세요" + ANSI_RESET);
+        line(ANSI_WHITE + "🧠 전략: 논리적 추론으로 숫자를 찾아내세요" + ANSI_RESET);
+        line(ANSI_WHITE + "🏆 도전: 최소 시도로 정답을 맞춰보세요!" + ANSI_RESET+"\n");
+        line(ANSI_PURPLE + "준비되셨나요? 행운을 빕니다! 🍀" + ANSI_RESET);
+        out.newLine();
     }
 
     public static void printMainMenu() {
-        System.out.println(ANSI_YELLOW + "┌───────────────────────────────┐" + ANSI_RESET);
-        System.out.println(ANSI_YELLOW + "│     야구 숫자 게임 메뉴        │" + ANSI_RESET);
-        System.out.println(ANSI_YELLOW + "├───────────────────────────────┤" + ANSI_RESET);
-        System.out.println(ANSI_YELLOW + "│ " + ANSI_GREEN + "1.  게임 시작하기 🎮           " + ANSI_YELLOW + "│" + ANSI_RESET);
-        System.out.println(ANSI_YELLOW + "│ " + ANSI_BLUE + "2.  게임 기록 보기 📊          " + ANSI_YELLOW + "│" + ANSI_RESET);
-        System.out.println(ANSI_YELLOW + "│ " + ANSI_PURPLE + "3.  전체 순위 보기 🏆          " + ANSI_YELLOW + "│" + ANSI_RESET);
-        System.out.println(ANSI_YELLOW + "│ " + ANSI_RED + "4.  로그아웃 하기 🚪           " + ANSI_YELLOW + "│" + ANSI_RESET);
-        System.out.println(ANSI_YELLOW + "└───────────────────────────────┘" + ANSI_RESET);
-        System.out.print(ANSI_CYAN + "원하는 옵션의 번호를 입력하세요: " + ANSI_RESET);
+        if (isMachine()) {
+            prompt("PROMPT\tmenu\n");
+            return;
+        }
+        line(ANSI_YELLOW + "┌───────────────────────────────┐" + ANSI_RESET);
+        line(ANSI_YELLOW + "│     야구 숫자 게임 메뉴        │" + ANSI_RESET);
+        line(ANSI_YELLOW + "├───────────────────────────────┤" + ANSI_RESET);
+        line(ANSI_YELLOW + "│ " + ANSI_GREEN + "1.  게임 시작하기 🎮           " + ANSI_YELLOW + "│" + ANSI_RESET);
+        line(ANSI_YELLOW + "│ " + ANSI_BLUE + "2.  게임 기록 보기 📊          " + ANSI_YELLOW + "│" + ANSI_RESET);
+        line(ANSI_YELLOW + "│ " + ANSI_PURPLE + "3.  전체 순위 보기 🏆          " + ANSI_YELLOW + "│" + ANSI_RESET);
+        line(ANSI_YELLOW + "│ " + ANSI_RED + "4.  로그아웃 하기 🚪           " + ANSI_YELLOW + "│" + ANSI_RESET);
+        line(ANSI_YELLOW + "└───────────────────────────────┘" + ANSI_RESET);
+        prompt(ANSI_CYAN + "원하는 옵션의 번호를 입력하세요: " + ANSI_RESET);
     }
 
     public static void printDifficultyMenu() {
-        System.out.println(ANSI_YELLOW + "┌───────────────────────────────┐" + ANSI_RESET);
-        System.out.println(ANSI_YELLOW + "│        난이도 선택            │" + ANSI_RESET);
-        System.out.println(ANSI_YELLOW + "├───────────────────────────────┤" + ANSI_RESET);
-        System.out.println(ANSI_YELLOW + "│ " + ANSI_GREEN + "1.  쉬움 (3자리 숫자)🤍     " + ANSI_YELLOW + "│" + ANSI_RESET);
-        System.out.println(ANSI_YELLOW + "│ " + ANSI_BLUE + "2.  보통 (4자리 숫자)🤍     " + ANSI_YELLOW + "│" + ANSI_RESET);
-        System.out.println(ANSI_YELLOW + "│ " + ANSI_RED + "3.  어려움 (5자리 숫자)🤍   " + ANSI_YELLOW + "│" + ANSI_RESET);
-        System.out.println(ANSI_YELLOW + "└───────────────────────────────┘" + ANSI_RESET);
-        System.out.print(ANSI_CYAN + "난이도를 선택하세요: " + ANSI_RESET);
+        if (isMachine()) {
+            prompt("PROMPT\tdifficulty\n");
+            return;
+        }
+        line(ANSI_YELLOW + "┌───────────────────────────────┐" + ANSI_RESET);
+        line(ANSI_YELLOW + "│        난이도 선택            │" + ANSI_RESET);
+        line(ANSI_YELLOW + "├───────────────────────────────┤" + ANSI_RESET);
+        line(ANSI_YELLOW + "│ " + ANSI_GREEN + "1.  쉬움 (3자리 숫자)🤍     " + ANSI_YELLOW + "│" + ANSI_RESET);
+        line(ANSI_YELLOW + "│ " + ANSI_BLUE + "2.  보통 (4자리 숫자)🤍     " + ANSI_YELLOW + "│" + ANSI_RESET);
+        line(ANSI_YELLOW + "│ " + ANSI_RED + "3.  어려움 (5자리 숫자)🤍   " + ANSI_YELLOW + "│" + ANSI_RESET);
+        line(ANSI_YELLOW + "└───────────────────────────────┘" + ANSI_RESET);
+        prompt(ANSI_CYAN + "난이도를 선택하세요: " + ANSI_RESET);
     }
 
-    public static void printResult(int strikeCnt, int ballCnt, int outCnt){
-        System.out.print(ANSI_RED + "스트라이크: " + strikeCnt + ANSI_CYAN + " ║ ");
-        System.out.print(ANSI_GREEN + "볼: " + ballCnt + ANSI_CYAN + " ║ ");
-        System.out.println(ANSI_YELLOW + "아웃: " + outCnt + ANSI_RESET);
+    public static void printGameReady() {
+        line(isMachine() ? "GAME_READY" : "랜덤 넘버 생성 완료 ✨");
+    }
 
-        if (strikeCnt == 3) {
-            System.out.println(ANSI_PINK + "축하합니다! 정답을 맞추셨습니다!" + ANSI_RESET);
+    public static void printInputPrompt(int len) {
+        if (isMachine()) {
+            out.append("PROMPT").append(TAB).append("guess").append(TAB).append(len).newLine();
+            out.flush();
+            return;
         }
+        out.append(ANSI_PINK).append(len).append(" 자리 수를 입력해주세요: ").append(ANSI_RESET);
+        out.flush();
+    }
+
+    /**
+     * 한 라운드의 결과 줄을 미리 인코딩해 둔 표에서 찾아 출력합니다
+     * 모든 자리가 스트라이크면 축하 문구도 함께 출력합니다
+     *
+     * @param result ResultCount.pack 형식의 결과
+     * @param len 숫자 길이
+     */
+    public static void printResult(int result, int len) {
+        byte[][] lines = len < resultLines.length ? resultLines[len] : null;
+        if (lines == null) {
+            out.append(resultLine(ResultCount.strikeOf(result), ResultCount.ballOf(result), len));
+            return;
+        }
+        out.append(lines[result]);
+    }
+
+    public static void printRemainingCandidates(int remainingCount){
+        if (isMachine()) {
+            out.append("CANDIDATES").append(TAB).append(remainingCount).newLine();
+            return;
+        }
+        out.append(ANSI_PURPLE).append("남은 정답 후보: ").append(remainingCount).append("개").append(ANSI_RESET).newLine();
     }
 
     public static void printExceptionMessage(String msg){
-        System.out.println(ANSI_BOLD + ANSI_BACKGROUND_RED + ANSI_CYAN + " 오류 " + ANSI_RESET +
+        if (isMachine()) {
+            out.append("ERROR").append(TAB).append(msg).newLine();
+            return;
+        }
+        line(ANSI_BOLD + ANSI_BACKGROUND_RED + ANSI_CYAN + " 오류 " + ANSI_RESET +
                 ANSI_BOLD + ANSI_BRIGHT_RED + " " + msg + " " + ANSI_RESET);
 
         // 추가적인 구분선으로 메시지를 강조
-        String separator = "=".repeat(msg.length() + 5);
-        System.out.println(ANSI_BRIGHT_RED + separator + ANSI_RESET);
+        out.append(ANSI_BRIGHT_RED);
+        for (int i = 0; i < msg.length() + 5; i++) {
+            out.append('=');
+        }
+        out.append(ANSI_RESET).newLine();
     }
 
     public static void  printUserRecords(User user, List<GameRecord> records) {
-        System.out.println( "===== " + user.getUsername() + "님의 게임 기록 =====");
+        if (isMachine()) {
+            out.append("RECORDS").append(TAB).append(user.getUsername()).append(TAB).append(records.size()).newLine();
+            for (int i = 0; i < records.size(); i++) {
+                GameRecord record = records.get(i);
+                out.append("RECORD").append(TAB).append(i + 1).append(TAB).append(record.getDifficultyMode().name())
+                        .append(TAB).append(record.getAttemptCnt()).newLine();
+            }
+            prompt("PROMPT\tcontinue\n");
+            return;
+        }
+        out.append("===== ").append(user.getUsername()).append("님의 게임 기록 =====").newLine();
 
         if (records.isEmpty()) {
-            System.out.println(CustomDesign.ANSI_YELLOW + "아직 게임을 진행한 이력이 없습니다." + CustomDesign.ANSI_RESET);
+            line(CustomDesign.ANSI_YELLOW + "아직 게임을 진행한 이력이 없습니다." + CustomDesign.ANSI_RESET);
         } else {
             for (int i = 0; i < records.size(); i++) {
                 GameRecord record = records.get(i);
-                System.out.printf(CustomDesign.ANSI_YELLOW + "%d번째 게임 [%s] 시도 횟수: %d\n" + CustomDesign.ANSI_RESET,
-                        i + 1, record.getDifficultyMode(), record.getAttemptCnt());
+                out.append(ANSI_YELLOW).append(i + 1).append("번째 게임 [").append(record.getDifficultyMode().name())
+                        .append("] 시도 횟수: ").append(record.getAttemptCnt()).append('\n').append(ANSI_RESET);
             }
         }
 
-        System.out.println("================================");
+        line("================================");
+        prompt(ANSI_CYAN + "Enter 키를 누르면 메뉴로 돌아갑니다..." + ANSI_RESET + "\n");
     }
 
-    public static void printRanking(List<UserRanking> rankingList) {
-        System.out.println(ANSI_CYAN + "================= 전체 순위 =================" + ANSI_RESET);
-        System.out.printf("%-6s %-10s %-8s %-9s %-9s %-8s\n", "순위", "이름", "점수", "난이도", "시도횟수", "진행 날짜");
-        System.out.println("------------------------------------------------");
+    public static void printRanking(String title, List<UserRanking> rankingList, int firstRank) {
+        if (isMachine()) {
+            out.append("RANKING").append(TAB).append(title).append(TAB).append(firstRank).append(TAB).append(rankingList.size()).newLine();
+            for (int i = 0; i < rankingList.size(); i++) {
+                UserRanking ranking = rankingList.get(i);
+                out.append("RANK").append(TAB).append(firstRank + i).append(TAB).append(ranking.getUsername())
+                        .append(TAB).append(ranking.getScore()).append(TAB).append(ranking.getDifficultyMode().name())
+                        .append(TAB).append(ranking.getAttemptCnt()).append(TAB).append(ranking.getFormattedFinishedDate()).newLine();
+            }
+            return;
+        }
+        out.append(ANSI_CYAN).append("============= ").append(title).append(" 순위 =============").append(ANSI_RESET).newLine();
+        out.appendPadded("순위", 6).append(' ').appendPadded("이름", 10).append(' ').appendPadded("점수", 8).append(' ')
+                .appendPadded("난이도", 9).append(' ').appendPadded("시도횟수", 9).append(' ').appendPadded("진행 날짜", 8).newLine();
+        line(RANKING_SEPARATOR);
 
         if(rankingList.isEmpty()){
-            System.out.println(ANSI_YELLOW+ "데이터가 없습니다."+ANSI_RESET);
+            line(ANSI_YELLOW+ "데이터가 없습니다."+ANSI_RESET);
         }
         else {
             for (int i = 0; i < rankingList.size(); i++) {
                 UserRanking ranking = rankingList.get(i);
-                String rankColor = getRankColor(i);
-                System.out.printf(rankColor + "%-6d" + ANSI_RESET + " %-10s %-8d %-9s %-8s %-8s\n",
-                        i + 1,
-                        ranking.getUsername(),
-                        ranking.getScore(),
-                        ranking.getDifficultyMode(),
-                        "   " + ranking.getAttemptCnt(),
-                        "  " + ranking.getFormattedFinishedDate());
+                out.append(getRankColor(firstRank - 1 + i)).appendPadded(firstRank + i, 6).append(ANSI_RESET).append(' ')
+                        .appendPadded(ranking.getUsername(), 10).append(' ')
+                        .appendPadded(ranking.getScore(), 8).append(' ')
+                        .appendPadded(ranking.getDifficultyMode().name(), 9).append(' ')
+                        .append("   ").appendPadded(ranking.getAttemptCnt(), 5).append(' ')
+                        .append("  ").append(ranking.getFormattedFinishedDate()).newLine();
+            }
+        }
+
+        line(ANSI_CYAN + "================================================" + ANSI_RESET);
+    }
+
+    public static void printMyRanking(int rank, int rankedUserCount) {
+        if (isMachine()) {
+            out.append("MY_RANK").append(TAB).append(rank).append(TAB).append(rankedUserCount).newLine();
+            return;
+        }
+        if (rank < 0) {
+            line(ANSI_YELLOW + "아직 완료한 게임이 없어 내 순위가 없습니다." + ANSI_RESET);
+        } else {
+            out.append(ANSI_GREEN).append("내 순위: ").append(rank).append("위 / ").append(rankedUserCount).append("명").append(ANSI_RESET).newLine();
+        }
+    }
+
+    public static void printRankingNavigation() {
+        if (isMachine()) {
+            prompt("PROMPT\tranking\n");
+            return;
+        }
+        line(ANSI_YELLOW + "n: 다음 페이지, p: 이전 페이지" + ANSI_RESET);
+        line(ANSI_YELLOW + "0: 전체 난이도, 1: EASY, 2: MEDIUM, 3: HARD / d: 오늘, w: 최근 7일, t: 전체 기간" + ANSI_RESET);
+        prompt(ANSI_YELLOW + "Enter 키를 누르면 메뉴로 돌아갑니다..." + ANSI_RESET + "\n");
+    }
+
+    private static byte[][][] createResultLines() {
+        int maxLen = 0;
+        for (DifficultyMode difficultyMode : DifficultyMode.values()) {
+            maxLen = Math.max(maxLen, difficultyMode.getLen());
+        }
+        byte[][][] resultLines = new byte[maxLen + 1][][];
+        for (DifficultyMode difficultyMode : DifficultyMode.values()) {
+            int len = difficultyMode.getLen();
+            byte[][] lines = new byte[ResultCount.pack(len, 0) + 1][];
+            for (int strikeCnt = 0; strikeCnt <= len; strikeCnt++) {
+                for (int ballCnt = 0; strikeCnt + ballCnt <= len; ballCnt++) {
+                    String line = resultLine(strikeCnt, ballCnt, len);
+                    if (profile == OutputProfile.PLAIN) {
+                        line = ConsoleRenderer.stripAnsi(line);
+                    }
+                    lines[ResultCount.pack(strikeCnt, ballCnt)] = line.getBytes(StandardCharsets.UTF_8);
+                }
             }
+            resultLines[len] = lines;
         }
+        return resultLines;
+    }
 
-        System.out.println(ANSI_CYAN + "================================================" + ANSI_RESET);
+    private static String resultLine(int strikeCnt, int ballCnt, int len) {
+        if (isMachine()) {
+            return "RESULT" + TAB + strikeCnt + TAB + ballCnt + TAB + (len - strikeCnt - ballCnt) + "\n"
+                    + (strikeCnt == len ? "SOLVED\n" : "");
+        }
+        String line = ANSI_RED + "스트라이크: " + strikeCnt + ANSI_CYAN + " ║ "
+                + ANSI_GREEN + "볼: " + ballCnt + ANSI_CYAN + " ║ "
+                + ANSI_YELLOW + "아웃: " + (len - strikeCnt - ballCnt) + ANSI_RESET + "\n";
+        if (strikeCnt == len) {
+            line += ANSI_PINK + "축하합니다! 정답을 맞추셨습니다!" + ANSI_RESET + "\n";
+        }
+        return line;
     }
 
     private static String getRankColor(int rank) {
@@ -160,5 +335,22 @@ public class CustomDesign {
         };
     }
 
+    private static boolean isMachine() {
+        return profile == OutputProfile.MACHINE;
+    }
+
+    /**
+     * 한 줄을 화면 버퍼에 추가합니다
+     */
+    private static void line(String text) {
+        out.append(text).newLine();
+    }
 
+    /**
+     * 입력 안내 문구를 추가하고, 입력을 기다리기 전에 모은 화면을 출력합니다
+     */
+    private static void prompt(String text) {
+        out.append(text);
+        out.flush();
+    }
 }
@@ -0,0 +1,63 @@
+package util;
+
+import ex.InvalidInputException;
+
+import java.util.Arrays;
+
+/**
+ * 콘솔 출력 형식을 나타내는 열거형입니다
+ * 실행 시작 시 '--output=이름' 인자나 baseball.output 시스템 프로퍼티로 고르며, 지정하지 않으면 ANSI입니다
+ *
+ * MACHINE 형식은 이벤트마다 한 줄을 출력하며, 첫 필드는 이벤트 이름이고 필드는 탭으로 구분합니다
+ * PROMPT(login|retry|menu|difficulty|guess 자리수|continue|ranking), WELCOME 이름, GAME_READY,
+ * RESULT 스트라이크 볼 아웃, SOLVED, CANDIDATES 후보 수, ERROR 메시지, LOGOUT, EXIT,
+ * RECORDS 이름 기록 수, RECORD 순번 난이도 시도 횟수, RANKING 제목 첫 순위 행 수,
+ * RANK 순위 이름 점수 난이도 시도 횟수 완료 일자, MY_RANK 순위(없으면 -1) 랭킹 인원
+ */
+public enum OutputProfile {
+
+    /** 색상과 장식을 포함한 기본 화면 */
+    ANSI,
+    /** 기본 화면에서 ANSI 색상 코드만 뺀 화면 */
+    PLAIN,
+    /** 스크립트에서 읽기 위한 이벤트별 한 줄 형식 */
+    MACHINE;
+
+    /** 출력 형식을 지정하는 시스템 프로퍼티 */
+    public static final String PROPERTY = "baseball.output";
+    private static final String ARG_PREFIX = "--output=";
+
+    /**
+     * 이름으로 출력 형식을 찾습니다 (대소문자 구분 없음)
+     *
+     * @param name 출력 형식 이름
+     * @return 해당하는 출력 형식
+     * @throws InvalidInputException 해당하는 출력 형식이 없을 경우 발생
+     */
+    public static OutputProfile findByName(String name) {
+        return Arrays.stream(values())
+                .filter(v -> v.name().equalsIgnoreCase(name.trim()))
+                .findFirst()
+                .orElseThrow(
+                        () -> new InvalidInputException("제공하지 않는 출력 형식입니다: " + name + " (ansi, plain, machine)")
+                );
+    }
+
+    /**
+     * 실행 인자와 시스템 프로퍼티에서 출력 형식을 정합니다
+     * 인자가 시스템 프로퍼티보다 우선하며, 같은 인자가 여러 번 있으면 마지막 값을 사용합니다
+     *
+     * @param args 프로그램 실행 인자
+     * @return 사용할 출력 형식
+     * @throws InvalidInputException 지정한 출력 형식이 없을 경우 발생
+     */
+    public static OutputProfile resolve(String[] args) {
+        String name = System.getProperty(PROPERTY);
+        for (String arg : args) {
+            if (arg.startsWith(ARG_PREFIX)) {
+                name = arg.substring(ARG_PREFIX.length());
+            }
+        }
+        return name == null ? ANSI : findByName(name);
+    }
+}